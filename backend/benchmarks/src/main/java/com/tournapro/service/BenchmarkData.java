@@ -0,0 +1,50 @@
+package com.tournapro.service;
+
+import com.tournapro.entity.Player;
+import com.tournapro.entity.Team;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Entities shaped like a real tournament's, built without a database. */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 9, 30);
+
+    private BenchmarkData() {}
+
+    static List<Team> teams(int count) {
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Team t = new Team();
+            t.setId((long) i);
+            t.setName("Team " + i + " United");
+            t.setShortName("T" + i);
+            t.setEmail("coach" + i + "@example.com");
+            t.setCountry(i % 3 == 0 ? "NL" : "BE");
+            t.setLogoUrl(LogoStorageService.PUBLIC_PATH + String.format("%064x", i) + ".png");
+            t.setDressingRoom("Room " + (i % 12));
+            t.setPresent(i % 2 == 0);
+            t.setPaid(i % 5 != 0);
+            t.setCreatedAt(CREATED.plusMinutes(i));
+            teams.add(t);
+        }
+        return teams;
+    }
+
+    static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Player p = new Player();
+            p.setId((long) i);
+            p.setName("Player Number " + i);
+            p.setDob(LocalDate.of(2008, 1, 1).plusDays(i % 700));
+            p.setNumber(i % 99 + 1);
+            p.setCreatedAt(CREATED.plusSeconds(i));
+            players.add(p);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tournapro.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The scheduling and standings engines on their own: fixture generation, bracket layout, greedy
+ * slot assignment (no local search, so the result does not depend on a time budget) and
+ * recomputing a division's standings after one result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"16", "64", "128"})
+    public int teams;
+
+    private SlotScheduler.Problem slotProblem;
+    private StandingsTable standings;
+    private long nextScore;
+
+    @Setup
+    public void setUp() {
+        RoundRobinScheduler.Fixtures fixtures = RoundRobinScheduler.generate(teams, false);
+        int matches = fixtures.size();
+        int[] home = new int[matches];
+        int[] away = new int[matches];
+        int[] round = new int[matches];
+        for (int i = 0; i < matches; i++) {
+            home[i] = fixtures.home(i);
+            away[i] = fixtures.away(i);
+            round[i] = fixtures.round(i);
+        }
+        int pitches = Math.max(1, teams / 4);
+        long[] slotStart = new long[matches / pitches + fixtures.rounds() + 1];
+        for (int s = 0; s < slotStart.length; s++) {
+            slotStart[s] = s * 30L;
+        }
+        boolean[][] referees = new boolean[pitches][slotStart.length];
+        for (boolean[] available : referees) {
+            Arrays.fill(available, true);
+        }
+        slotProblem = new SlotScheduler.Problem(teams, home, away, round, slotStart, pitches, 25, 5, referees);
+
+        standings = new StandingsTable(1L);
+        for (int t = 1; t <= teams; t++) {
+            standings.addTeam(t, "Team " + t, t % 2 == 0 ? "A" : "B");
+        }
+        for (int i = 0; i < matches; i++) {
+            standings.applyResult(i, home[i] + 1, away[i] + 1, i % 4, i % 3);
+        }
+    }
+
+    @Benchmark
+    public RoundRobinScheduler.Fixtures roundRobin() {
+        return RoundRobinScheduler.generate(teams, true);
+    }
+
+    @Benchmark
+    public BracketEngine.Bracket doubleEliminationBracket() {
+        return BracketEngine.build(teams, true);
+    }
+
+    @Benchmark
+    public SlotScheduler.Solution greedySlots() {
+        return SlotScheduler.solve(slotProblem, 0, 0, 1L);
+    }
+
+    // one edited result, then the ranked snapshot is rebuilt
+    @Benchmark
+    public Object standingsAfterResult() {
+        long score = nextScore++ & 7;
+        standings.applyResult(0, 1, 2, (int) score, 1);
+        return standings.snapshot();
+    }
+}
@@ -0,0 +1,72 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tournapro.dto.CursorPage;
+import com.tournapro.dto.PlayerResponse;
+import com.tournapro.dto.TeamResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JSON of the team list and of a player page, written with an ObjectMapper configured the way
+ * Spring Boot configures the application's, and the same list answered from {@link ResponseCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ResponseCache responseCache;
+    private List<TeamResponse> teams;
+    private CursorPage<PlayerResponse> players;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        responseCache = new ResponseCache(objectMapper, 64L * 1024 * 1024);
+        teams = BenchmarkData.teams(size).stream().map(TeamService::toResponse).collect(Collectors.toList());
+        List<PlayerResponse> page = BenchmarkData.players(size).stream()
+                .map(PlayerService::toResponse).collect(Collectors.toList());
+        players = new CursorPage<>(page, KeysetCursor.encode("Player Number " + size, (long) size), null);
+    }
+
+    @Benchmark
+    public byte[] teamList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(teams);
+    }
+
+    @Benchmark
+    public byte[] playerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(players);
+    }
+
+    @Benchmark
+    public byte[] teamListCached() {
+        return responseCache.get(ResponseCache.tournament(1L), "teams", () -> teams);
+    }
+}
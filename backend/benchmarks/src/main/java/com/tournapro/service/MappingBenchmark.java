@@ -0,0 +1,59 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.PlayerResponse;
+import com.tournapro.dto.PublicTeamResponse;
+import com.tournapro.dto.TeamResponse;
+import com.tournapro.entity.Player;
+import com.tournapro.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/** Entity to DTO mapping of whole lists, as the list endpoints do it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<Team> teams;
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        teams = BenchmarkData.teams(size);
+        players = BenchmarkData.players(size);
+    }
+
+    @Benchmark
+    public List<TeamResponse> teamResponses() {
+        return teams.stream().map(TeamService::toResponse).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PublicTeamResponse> publicTeamResponses() {
+        return teams.stream().map(TeamService::toPublicResponse).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PlayerResponse> playerResponses() {
+        return players.stream().map(PlayerService::toResponse).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tournapro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The application's DataSource: the primary pool (spring.datasource.*, spring.datasource.hikari.*)
+ * as Spring Boot would build it, wrapped in a {@link ReadReplicaDataSource} when
+ * {@code datasource.replicas.urls} lists read replicas.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private final List<String> replicaUrls;
+
+    public DataSourceConfig(@Value("${datasource.replicas.urls:}") String replicaUrls) {
+        this.replicaUrls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 @Value("${datasource.replicas.username:}") String replicaUsername,
+                                 @Value("${datasource.replicas.password:}") String replicaPassword,
+                                 @Value("${datasource.replicas.pool-size:10}") int replicaPoolSize,
+                                 @Value("${datasource.replicas.connection-timeout-ms:2000}") long replicaConnectionTimeoutMs,
+                                 @Value("${datasource.replicas.read-your-writes-ms:5000}") long readYourWritesMs,
+                                 @Value("${datasource.replicas.health-check-ms:5000}") long healthCheckMs) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (replicaUrls.isEmpty()) {
+            return primary;
+        }
+
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername);
+            replica.setPassword(replicaPassword.isEmpty() ? properties.determinePassword() : replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // a replica that is down must not stall requests or startup; reads fall back to the primary
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReadReplicaDataSource(primary, replicas, readYourWritesMs, healthCheckMs);
+    }
+
+    /**
+     * With replicas, Hibernate must hand its connection back after every transaction. Otherwise
+     * open-session-in-view keeps the first one (possibly a replica's) for the rest of the request.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return hibernateProperties -> {
+            if (!replicaUrls.isEmpty()) {
+                hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                        "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+            }
+        };
+    }
+}
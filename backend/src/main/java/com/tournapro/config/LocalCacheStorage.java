@@ -0,0 +1,90 @@
+package com.tournapro.config;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Storage of one second-level cache region: an access-ordered map that drops its least recently
+ * used entry past {@code maxEntries} and treats entries older than {@code ttlMillis} as absent
+ * (0 = no expiry). Hibernate stores disassembled state here, never entity instances, so values
+ * are safe to hand to several sessions at once.
+ */
+final class LocalCacheStorage implements DomainDataStorageAccess {
+
+    private final long ttlMillis;
+    private final LinkedHashMap<Object, Entry> entries;
+
+    LocalCacheStorage(int maxEntries, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Entry e = entries.get(key);
+        if (e == null) {
+            return null;
+        }
+        if (e.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return e.value;
+    }
+
+    @Override
+    public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        entries.put(key, new Entry(value, expiresAt));
+    }
+
+    @Override
+    public synchronized void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void clearCache(SharedSessionContractImplementor session) {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized boolean contains(Object key) {
+        Entry e = entries.get(key);
+        return e != null && e.expiresAt >= System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized void evictData() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized void evictData(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void release() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+
+        final Object value;
+        final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tournapro.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache held in this JVM, for the few entities read on nearly every request
+ * (tournaments and users). Entity and query-result regions are bounded LRU maps whose entries
+ * expire, configured with {@code spring.jpa.properties.hibernate.cache.local.max_entries} and
+ * {@code ...ttl_seconds}. The update-timestamps region is neither bounded nor expired: a missing
+ * timestamp would make a stale cached query result look current.
+ *
+ * Each instance caches on its own, which is fine while rows change through this application only;
+ * Hibernate evicts or replaces an entry when its transaction commits.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+
+    public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+    public static final String TTL_SECONDS = "hibernate.cache.local.ttl_seconds";
+
+    private int maxEntries = 10_000;
+    private long ttlMillis = 600_000;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions options, Map<String, Object> configValues) {
+        Object max = configValues.get(MAX_ENTRIES);
+        if (max != null) {
+            maxEntries = Integer.parseInt(max.toString().trim());
+        }
+        Object ttl = configValues.get(TTL_SECONDS);
+        if (ttl != null) {
+            ttlMillis = Long.parseLong(ttl.toString().trim()) * 1000;
+        }
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // regions release their own storage
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new LocalCacheStorage(maxEntries, ttlMillis);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new LocalCacheStorage(maxEntries, ttlMillis);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new LocalCacheStorage(Integer.MAX_VALUE, 0);
+    }
+}
@@ -0,0 +1,212 @@
+package com.tournapro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else to the
+ * primary. The physical connection is fetched lazily, at the first statement, so the
+ * transaction's read-only flag is known when the target is chosen.
+ *
+ * A user who committed a write in the last {@code readYourWritesMillis} reads from the primary,
+ * so they see their own change before it reaches the replicas. Replicas are checked every
+ * {@code healthCheckMillis} and are skipped while they fail, as is a replica whose connection
+ * attempt fails during a request; reads then fall back to the primary.
+ *
+ * Data that is cached after a change (standings tables, public snapshots, cached JSON) must not
+ * come from a lagging replica: load it inside {@link #onPrimary}.
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    private static final ThreadLocal<Integer> PRIMARY_ONLY = ThreadLocal.withInitial(() -> 0);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long readYourWritesMillis;
+    private final ConcurrentHashMap<String, Long> lastWrite = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long healthCheckMillis;
+    private ScheduledExecutorService healthCheck;
+
+    public ReadReplicaDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                 long readYourWritesMillis, long healthCheckMillis) {
+        this.primary = primary;
+        for (HikariDataSource pool : replicaPools) {
+            replicas.add(new Replica(pool));
+        }
+        this.readYourWritesMillis = readYourWritesMillis;
+        setTargetDataSource(new Router());
+        // known up front, so no connection is opened just to read them
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        this.healthCheckMillis = healthCheckMillis;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        // started here rather than in the constructor, so post-processors can still configure the pools
+        healthCheck = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-health");
+            t.setDaemon(true);
+            return t;
+        });
+        // replicas start out unused and join once a check succeeds
+        healthCheck.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs {@code work} with every connection it opens on this thread taken from the primary.
+     * Only connections opened inside count: call it before the surrounding transaction's first
+     * statement, or outside a transaction.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        PRIMARY_ONLY.set(PRIMARY_ONLY.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.set(PRIMARY_ONLY.get() - 1);
+        }
+    }
+
+    /** The primary pool followed by the replica pools. */
+    public List<HikariDataSource> pools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(primary);
+        replicas.forEach(r -> pools.add(r.pool));
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+        }
+        replicas.forEach(r -> r.pool.close());
+        primary.close();
+    }
+
+    private void checkReplicas() {
+        for (Replica r : replicas) {
+            boolean ok;
+            try (Connection c = r.pool.getConnection()) {
+                ok = c.isValid(2);
+            } catch (SQLException | RuntimeException e) {
+                ok = false;
+            }
+            r.setHealthy(ok);
+        }
+        long cutoff = System.currentTimeMillis() - readYourWritesMillis;
+        lastWrite.values().removeIf(at -> at < cutoff);
+    }
+
+    private Replica pickReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_ONLY.get() > 0) {
+            return null;
+        }
+        String user = currentUser();
+        if (user != null) {
+            Long at = lastWrite.get(user);
+            if (at != null && System.currentTimeMillis() - at < readYourWritesMillis) {
+                return null;
+            }
+        }
+        int n = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            Replica r = replicas.get((start + i) % n);
+            if (r.healthy) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    // the read-your-writes window starts when the write is visible on the primary
+    private void recordWrite() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrite.put(user, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated()) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    private final class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Replica replica = pickReplica();
+            if (replica != null) {
+                try {
+                    return replica.pool.getConnection();
+                } catch (SQLException e) {
+                    replica.setHealthy(false);
+                }
+            } else if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                recordWrite();
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Connections use the configured credentials");
+        }
+    }
+
+    private static final class Replica {
+
+        final HikariDataSource pool;
+        volatile boolean healthy;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        void setHealthy(boolean ok) {
+            if (ok != healthy) {
+                healthy = ok;
+                if (ok) {
+                    log.info("Replica {} is up, read-only transactions use it", pool.getPoolName());
+                } else {
+                    log.warn("Replica {} is down, its reads go to the primary", pool.getPoolName());
+                }
+            }
+        }
+    }
+}
@@ -45,6 +45,8 @@ public class SecurityConfig {
                         // Allow preflight requests from browser
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/auth/**", "/api/public/**").permitAll()
+                        // scrape endpoint checks its own token (metrics.prometheus.token), or an admin login without one
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/tournaments/*/matches/*/result").hasAnyRole("REFEREE", "ORGANIZER", "ADMIN")
                         .anyRequest().authenticated()
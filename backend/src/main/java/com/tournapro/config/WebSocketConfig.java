@@ -0,0 +1,57 @@
+package com.tournapro.config;
+
+import com.tournapro.push.TournamentSocketEndpoint;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.ServletContextAware;
+
+/**
+ * Registers {@link TournamentSocketEndpoint} at {@code /ws} with the servlet container's own
+ * WebSocket support (Tomcat's, part of spring-boot-starter-web), so every connection is handled by
+ * the container's non-blocking I/O and the endpoint bean is shared by all sessions.
+ */
+@Configuration
+public class WebSocketConfig implements ServletContextAware, SmartInitializingSingleton {
+
+    public static final String PATH = "/ws";
+
+    private final TournamentSocketEndpoint endpoint;
+    private ServletContext servletContext;
+
+    public WebSocketConfig(TournamentSocketEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        this.servletContext = servletContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ServerContainer container = servletContext == null ? null
+                : (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName());
+        if (container == null) {
+            // mock servlet environments (tests) have no container
+            return;
+        }
+        ServerEndpointConfig config = ServerEndpointConfig.Builder
+                .create(TournamentSocketEndpoint.class, PATH)
+                .configurator(new ServerEndpointConfig.Configurator() {
+                    @Override
+                    public <T> T getEndpointInstance(Class<T> endpointClass) {
+                        return endpointClass.cast(endpoint);
+                    }
+                })
+                .build();
+        try {
+            container.addEndpoint(config);
+        } catch (DeploymentException e) {
+            throw new IllegalStateException("Cannot register WebSocket endpoint " + PATH, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.tournapro.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads of the application's own background executors. With
+ * {@code spring.threads.virtual.enabled=true} on a Java 21+ runtime (the same switch that puts
+ * Tomcat's request threads and the MVC async executor on virtual threads) they are virtual
+ * threads; otherwise named daemon platform threads, as before. The code is compiled for Java 17
+ * either way: Spring picks the virtual-thread implementation at runtime.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /** Factory for the threads of a bounded pool; the pool still caps how many run at once. */
+    public ThreadFactory factory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix + "-").getVirtualThreadFactory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * For work that mostly waits on I/O: in virtual mode an unbounded pool, i.e. a virtual thread
+     * per concurrent task, otherwise a fixed pool of {@code platformThreads}.
+     */
+    public ExecutorService blockingExecutor(String prefix, int platformThreads) {
+        if (virtual) {
+            return Executors.newCachedThreadPool(factory(prefix));
+        }
+        return Executors.newFixedThreadPool(platformThreads, factory(prefix));
+    }
+}
@@ -0,0 +1,26 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.CacheRegionStatsResponse;
+import com.tournapro.service.CacheStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class AdminCacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    public AdminCacheController(CacheStatsService cacheStatsService) {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    // second-level cache hits and misses per region (platform admins only, see SecurityConfig)
+    @GetMapping
+    public ResponseEntity<List<CacheRegionStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+}
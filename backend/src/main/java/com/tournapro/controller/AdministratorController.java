@@ -2,10 +2,15 @@ package com.tournapro.controller;
 
 import com.tournapro.dto.AdministratorResponse;
 import com.tournapro.dto.CreateAdministratorRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.service.AdministratorService;
+import com.tournapro.service.DataVersionService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,9 +20,12 @@ import java.util.List;
 public class AdministratorController {
 
     private final AdministratorService service;
+    private final DataVersionService dataVersions;
 
-    public AdministratorController(AdministratorService service) {
+    public AdministratorController(AdministratorService service,
+                                   DataVersionService dataVersions) {
         this.service = service;
+        this.dataVersions = dataVersions;
     }
 
     @PostMapping
@@ -28,9 +36,37 @@ public class AdministratorController {
         return ResponseEntity.ok(service.addAdministrator(tournamentId, request));
     }
 
+    // 304 after one version lookup when the client's copy is current
     @GetMapping
-    public ResponseEntity<List<AdministratorResponse>> listAdmins(@PathVariable Long tournamentId) {
-        return ResponseEntity.ok(service.listAdministrators(tournamentId));
+    public ResponseEntity<List<AdministratorResponse>> listAdmins(@PathVariable Long tournamentId, WebRequest request) {
+        String etag = DataVersionService.etag(tournamentId, "administrators", dataVersions.version(tournamentId));
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        List<AdministratorResponse> admins = service.listAdministrators(tournamentId);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(admins);
+    }
+
+    @GetMapping("/paged")
+    public ResponseEntity<Page<AdministratorResponse>> listAdminsPaged(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "25") int size
+    ) {
+        return ResponseEntity.ok(service.listAdministratorsPaged(tournamentId, page, size));
+    }
+
+    @GetMapping("/seek")
+    public ResponseEntity<CursorPage<AdministratorResponse>> listAdminsAfter(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(service.listAdministratorsAfter(tournamentId, cursor, size, includeTotal));
     }
 
     @DeleteMapping("/{adminId}")
@@ -0,0 +1,29 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.AuditEventResponse;
+import com.tournapro.dto.CursorPage;
+import com.tournapro.service.AuditService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/audit")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class AuditController {
+
+    private final AuditService auditService;
+
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    // who changed what, newest first
+    @GetMapping
+    public ResponseEntity<CursorPage<AuditEventResponse>> listEvents(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size
+    ) {
+        return ResponseEntity.ok(auditService.listEvents(tournamentId, cursor, size));
+    }
+}
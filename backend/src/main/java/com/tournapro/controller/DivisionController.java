@@ -0,0 +1,126 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.BracketResponse;
+import com.tournapro.dto.CreateDivisionRequest;
+import com.tournapro.dto.DivisionResponse;
+import com.tournapro.dto.GenerateBracketRequest;
+import com.tournapro.dto.GenerateScheduleRequest;
+import com.tournapro.dto.MatchResponse;
+import com.tournapro.dto.ScheduleResponse;
+import com.tournapro.dto.StandingsResponse;
+import com.tournapro.service.BracketService;
+import com.tournapro.service.DivisionService;
+import com.tournapro.service.ScheduleService;
+import com.tournapro.service.StandingsService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/divisions")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class DivisionController {
+
+    private final DivisionService divisionService;
+    private final ScheduleService scheduleService;
+    private final StandingsService standingsService;
+    private final BracketService bracketService;
+
+    public DivisionController(DivisionService divisionService,
+                              ScheduleService scheduleService,
+                              StandingsService standingsService,
+                              BracketService bracketService) {
+        this.divisionService = divisionService;
+        this.scheduleService = scheduleService;
+        this.standingsService = standingsService;
+        this.bracketService = bracketService;
+    }
+
+    @PostMapping
+    public ResponseEntity<DivisionResponse> createDivision(
+            @PathVariable Long tournamentId,
+            @Valid @RequestBody CreateDivisionRequest request
+    ) {
+        return ResponseEntity.ok(divisionService.createDivision(tournamentId, request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DivisionResponse>> getDivisions(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(divisionService.getDivisions(tournamentId));
+    }
+
+    @GetMapping("/{divisionId}")
+    public ResponseEntity<DivisionResponse> getDivision(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId
+    ) {
+        return ResponseEntity.ok(divisionService.getDivision(tournamentId, divisionId));
+    }
+
+    // Rename and/or replace the division's teams (teamIds omitted = keep current teams)
+    @PutMapping("/{divisionId}")
+    public ResponseEntity<DivisionResponse> updateDivision(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId,
+            @Valid @RequestBody CreateDivisionRequest request
+    ) {
+        return ResponseEntity.ok(divisionService.updateDivision(tournamentId, divisionId, request));
+    }
+
+    @DeleteMapping("/{divisionId}")
+    public ResponseEntity<Void> deleteDivision(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId
+    ) {
+        divisionService.deleteDivision(tournamentId, divisionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Replaces the division's matches with a fresh round-robin (or group stage when groups > 1)
+    @PostMapping("/{divisionId}/generate-schedule")
+    public ResponseEntity<ScheduleResponse> generateSchedule(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId,
+            @Valid @RequestBody(required = false) GenerateScheduleRequest request
+    ) {
+        return ResponseEntity.ok(scheduleService.generateSchedule(tournamentId, divisionId, request));
+    }
+
+    @GetMapping("/{divisionId}/matches")
+    public ResponseEntity<List<MatchResponse>> getMatches(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId
+    ) {
+        return ResponseEntity.ok(scheduleService.getMatches(tournamentId, divisionId));
+    }
+
+    // Served from the in-memory table; per group when the division plays a group stage
+    @GetMapping("/{divisionId}/standings")
+    public ResponseEntity<StandingsResponse> getStandings(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId
+    ) {
+        return ResponseEntity.ok(standingsService.getStandings(tournamentId, divisionId));
+    }
+
+    // Builds a single- or double-elimination bracket, seeded from the standings unless teamIds are given
+    @PostMapping("/{divisionId}/bracket")
+    public ResponseEntity<BracketResponse> generateBracket(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId,
+            @Valid @RequestBody(required = false) GenerateBracketRequest request
+    ) {
+        return ResponseEntity.ok(bracketService.generateBracket(tournamentId, divisionId, request));
+    }
+
+    // Every node in index order, with winTo/loseTo links for drawing the tree
+    @GetMapping("/{divisionId}/bracket")
+    public ResponseEntity<BracketResponse> getBracket(
+            @PathVariable Long tournamentId,
+            @PathVariable Long divisionId
+    ) {
+        return ResponseEntity.ok(bracketService.getBracket(tournamentId, divisionId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.tournapro.controller;
+
+import com.tournapro.service.LogoStorageService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Serves stored team logos. Public so <img> tags can load them without a bearer token.
+@RestController
+@RequestMapping("/api/public/logos")
+public class LogoController {
+
+    // content-addressed files never change, so clients may cache them forever
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    // the original standing in for a thumbnail still being rendered: revalidate, the ETag changes once it exists
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private final LogoStorageService logoStorage;
+
+    public LogoController(LogoStorageService logoStorage) {
+        this.logoStorage = logoStorage;
+    }
+
+    // ?size=N serves the smallest thumbnail that is at least N px, so bracket views don't pull originals
+    @GetMapping("/{filename:.+}")
+    public ResponseEntity<Resource> getLogo(
+            @PathVariable String filename,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        String served = logoStorage.resolveForSize(filename, size);
+        String etag = logoStorage.etagOf(served);
+        CacheControl cacheControl = logoStorage.isFinal(filename, size, served) ? IMMUTABLE : REVALIDATE;
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(logoStorage.contentType(served)))
+                .body(new FileSystemResource(logoStorage.resolve(served)));
+    }
+}
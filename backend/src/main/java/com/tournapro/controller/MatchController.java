@@ -0,0 +1,63 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.AssignSlotsRequest;
+import com.tournapro.dto.AssignSlotsResponse;
+import com.tournapro.dto.MatchResponse;
+import com.tournapro.dto.MatchResultRequest;
+import com.tournapro.dto.UpdateMatchScheduleRequest;
+import com.tournapro.service.MatchService;
+import com.tournapro.service.SlotScheduleService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/matches")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class MatchController {
+
+    private final MatchService matchService;
+    private final SlotScheduleService slotScheduleService;
+
+    public MatchController(MatchService matchService, SlotScheduleService slotScheduleService) {
+        this.matchService = matchService;
+        this.slotScheduleService = slotScheduleService;
+    }
+
+    @GetMapping("/{matchId}")
+    public ResponseEntity<MatchResponse> getMatch(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId
+    ) {
+        return ResponseEntity.ok(matchService.getMatch(tournamentId, matchId));
+    }
+
+    // Set time, venue, pitch and referee of one match by hand
+    @PutMapping("/{matchId}/schedule")
+    public ResponseEntity<MatchResponse> updateSchedule(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId,
+            @RequestBody UpdateMatchScheduleRequest request
+    ) {
+        return ResponseEntity.ok(matchService.updateSchedule(tournamentId, matchId, request));
+    }
+
+    // Place every unplayed match into slots, pitches and referees in one go
+    @PostMapping("/assign-slots")
+    public ResponseEntity<AssignSlotsResponse> assignSlots(
+            @PathVariable Long tournamentId,
+            @Valid @RequestBody AssignSlotsRequest request
+    ) {
+        return ResponseEntity.ok(slotScheduleService.assignSlots(tournamentId, request));
+    }
+
+    // Referees, tournament admins and the organizer can enter or correct a score
+    @PutMapping("/{matchId}/result")
+    public ResponseEntity<MatchResponse> recordResult(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId,
+            @Valid @RequestBody MatchResultRequest request
+    ) {
+        return ResponseEntity.ok(matchService.recordResult(tournamentId, matchId, request));
+    }
+}
@@ -1,11 +1,17 @@
 package com.tournapro.controller;
 
 import com.tournapro.dto.CreatePlayerRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.dto.PlayerResponse;
+import com.tournapro.service.DataVersionService;
 import com.tournapro.service.PlayerService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,9 +21,12 @@ import java.util.List;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final DataVersionService dataVersions;
 
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService,
+                            DataVersionService dataVersions) {
         this.playerService = playerService;
+        this.dataVersions = dataVersions;
     }
 
     @PostMapping
@@ -38,12 +47,46 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.bulkCreate(tournamentId, teamId, requests));
     }
 
+    // cached JSON, written out as it is; 304 after one version lookup when the client's copy is current
     @GetMapping
-    public ResponseEntity<List<PlayerResponse>> listPlayers(
+    public ResponseEntity<byte[]> listPlayers(
             @PathVariable Long tournamentId,
-            @PathVariable Long teamId
+            @PathVariable Long teamId,
+            WebRequest request
+    ) {
+        // one version read for both the ETag and the cached body
+        Long version = dataVersions.version(tournamentId);
+        String etag = DataVersionService.etag(tournamentId, "players-" + teamId, version);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] json = playerService.listPlayersJson(tournamentId, teamId, version);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(json);
+    }
+
+    @GetMapping("/paged")
+    public ResponseEntity<Page<PlayerResponse>> listPlayersPaged(
+            @PathVariable Long tournamentId,
+            @PathVariable Long teamId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "25") int size
+    ) {
+        return ResponseEntity.ok(playerService.listPlayersPaged(tournamentId, teamId, page, size));
+    }
+
+    @GetMapping("/seek")
+    public ResponseEntity<CursorPage<PlayerResponse>> listPlayersAfter(
+            @PathVariable Long tournamentId,
+            @PathVariable Long teamId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(playerService.listPlayers(tournamentId, teamId));
+        return ResponseEntity.ok(playerService.listPlayersAfter(tournamentId, teamId, cursor, size, includeTotal));
     }
 
     // Update player (PUT or PATCH)
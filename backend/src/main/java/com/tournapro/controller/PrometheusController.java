@@ -0,0 +1,48 @@
+package com.tournapro.controller;
+
+import com.tournapro.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+public class PrometheusController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    private final MetricsRegistry metrics;
+    private final byte[] token;
+
+    public PrometheusController(MetricsRegistry metrics,
+                                @Value("${metrics.prometheus.token:}") String token) {
+        this.metrics = metrics;
+        this.token = token.isBlank() ? null : ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Prometheus scrape target: scrapers send metrics.prometheus.token; without one configured only admins may read it
+    @GetMapping("/actuator/prometheus")
+    public ResponseEntity<String> scrape(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        boolean allowed = token != null
+                ? authorization != null && MessageDigest.isEqual(token, authorization.getBytes(StandardCharsets.UTF_8))
+                : isAdmin();
+        if (!allowed) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(metrics.scrape());
+    }
+
+    private static boolean isAdmin() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated()
+                && auth.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+}
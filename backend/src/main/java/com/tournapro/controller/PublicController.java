@@ -0,0 +1,60 @@
+package com.tournapro.controller;
+
+import com.tournapro.service.PublicSnapshotService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/public")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class PublicController {
+
+    private final PublicSnapshotService snapshots;
+
+    public PublicController(PublicSnapshotService snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    // LIST all tournaments
+    @GetMapping("/tournaments")
+    public ResponseEntity<byte[]> getTournaments() {
+        return body(snapshots.tournaments());
+    }
+
+    @GetMapping("/tournaments/{tournamentId}")
+    public ResponseEntity<byte[]> getTournament(@PathVariable Long tournamentId) {
+        return body(snapshots.tournament(tournamentId));
+    }
+
+    // teams without contact, attendance or payment details
+    @GetMapping("/tournaments/{tournamentId}/teams")
+    public ResponseEntity<byte[]> getTeams(@PathVariable Long tournamentId) {
+        return body(snapshots.teams(tournamentId));
+    }
+
+    @GetMapping("/tournaments/{tournamentId}/divisions")
+    public ResponseEntity<byte[]> getDivisions(@PathVariable Long tournamentId) {
+        return body(snapshots.divisions(tournamentId));
+    }
+
+    @GetMapping("/divisions/{divisionId}/matches")
+    public ResponseEntity<byte[]> getMatches(@PathVariable Long divisionId) {
+        return body(snapshots.matches(divisionId));
+    }
+
+    @GetMapping("/divisions/{divisionId}/standings")
+    public ResponseEntity<byte[]> getStandings(@PathVariable Long divisionId) {
+        return body(snapshots.standings(divisionId));
+    }
+
+    // pre-serialized JSON; Spring answers a matching If-None-Match with 304 and no body
+    private static ResponseEntity<byte[]> body(PublicSnapshotService.Json json) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(json.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(json.bytes());
+    }
+}
@@ -0,0 +1,27 @@
+package com.tournapro.controller;
+
+import com.tournapro.push.TournamentBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/public/tournaments/{tournamentId}/events")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class PublicEventController {
+
+    private final TournamentBroadcaster broadcaster;
+
+    public PublicEventController(TournamentBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    // SSE feed of the tournament's changes (same BATCH frames as /ws); EventSource resumes with Last-Event-ID
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @PathVariable Long tournamentId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return broadcaster.openEventStream(tournamentId, lastEventId);
+    }
+}
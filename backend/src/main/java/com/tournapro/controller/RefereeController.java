@@ -1,11 +1,17 @@
 package com.tournapro.controller;
 
 import com.tournapro.dto.CreateRefereeRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.dto.RefereeResponse;
+import com.tournapro.service.DataVersionService;
 import com.tournapro.service.RefereeService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,9 +21,12 @@ import java.util.List;
 public class RefereeController {
 
     private final RefereeService refereeService;
+    private final DataVersionService dataVersions;
 
-    public RefereeController(RefereeService refereeService) {
+    public RefereeController(RefereeService refereeService,
+                             DataVersionService dataVersions) {
         this.refereeService = refereeService;
+        this.dataVersions = dataVersions;
     }
 
     @PostMapping
@@ -36,11 +45,43 @@ public class RefereeController {
         return ResponseEntity.ok(refereeService.bulkCreate(tournamentId, requests));
     }
 
+    // cached JSON, written out as it is; 304 after one version lookup when the client's copy is current
     @GetMapping
-    public ResponseEntity<List<RefereeResponse>> listReferees(
-            @PathVariable Long tournamentId
+    public ResponseEntity<byte[]> listReferees(
+            @PathVariable Long tournamentId,
+            WebRequest request
+    ) {
+        // one version read for both the ETag and the cached body
+        Long version = dataVersions.version(tournamentId);
+        String etag = DataVersionService.etag(tournamentId, "referees", version);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] json = refereeService.listRefereesJson(tournamentId, version);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(json);
+    }
+
+    @GetMapping("/paged")
+    public ResponseEntity<Page<RefereeResponse>> listRefereesPaged(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "25") int size
+    ) {
+        return ResponseEntity.ok(refereeService.listRefereesPaged(tournamentId, page, size));
+    }
+
+    @GetMapping("/seek")
+    public ResponseEntity<CursorPage<RefereeResponse>> listRefereesAfter(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(refereeService.listReferees(tournamentId));
+        return ResponseEntity.ok(refereeService.listRefereesAfter(tournamentId, cursor, size, includeTotal));
     }
 
     @RequestMapping(value = "/{refereeId}", method = {RequestMethod.PUT, RequestMethod.PATCH})
@@ -0,0 +1,26 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.TeamRosterResponse;
+import com.tournapro.service.RosterService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/roster")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class RosterController {
+
+    private final RosterService rosterService;
+
+    public RosterController(RosterService rosterService) {
+        this.rosterService = rosterService;
+    }
+
+    // Every team with its players in one response (replaces one players call per team)
+    @GetMapping
+    public ResponseEntity<List<TeamRosterResponse>> getRoster(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(rosterService.getRoster(tournamentId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.tournapro.controller;
+
+import com.tournapro.dto.ImportJobResponse;
+import com.tournapro.service.RosterImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+// CSV roster imports run in the background; each POST returns 202 with a job to poll
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class RosterImportController {
+
+    private final RosterImportService importService;
+
+    public RosterImportController(RosterImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(value = "/teams/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importTeams(
+            @PathVariable Long tournamentId,
+            @RequestPart(name = "file") MultipartFile file
+    ) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.importTeams(tournamentId, file));
+    }
+
+    @PostMapping(value = "/teams/{teamId}/players/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importPlayers(
+            @PathVariable Long tournamentId,
+            @PathVariable Long teamId,
+            @RequestPart(name = "file") MultipartFile file
+    ) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.importPlayers(tournamentId, teamId, file));
+    }
+
+    @PostMapping(value = "/referees/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importReferees(
+            @PathVariable Long tournamentId,
+            @RequestPart(name = "file") MultipartFile file
+    ) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.importReferees(tournamentId, file));
+    }
+
+    @GetMapping("/imports/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @PathVariable Long tournamentId,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(importService.getJob(tournamentId, jobId));
+    }
+}
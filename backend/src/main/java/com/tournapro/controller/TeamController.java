@@ -1,13 +1,17 @@
 package com.tournapro.controller;
 
 import com.tournapro.dto.CreateTeamRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.dto.TeamResponse;
+import com.tournapro.service.DataVersionService;
 import com.tournapro.service.TeamService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -19,9 +23,12 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final DataVersionService dataVersions;
 
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService,
+                          DataVersionService dataVersions) {
         this.teamService = teamService;
+        this.dataVersions = dataVersions;
     }
 
     @PostMapping
@@ -42,11 +49,24 @@ public class TeamController {
         return ResponseEntity.ok(created);
     }
 
+    // cached JSON, written out as it is; 304 after one version lookup when the client's copy is current
     @GetMapping
-    public ResponseEntity<List<TeamResponse>> getTeams(
-            @PathVariable Long tournamentId
+    public ResponseEntity<byte[]> getTeams(
+            @PathVariable Long tournamentId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(teamService.getTeams(tournamentId));
+        // one version read for both the ETag and the cached body
+        Long version = dataVersions.version(tournamentId);
+        String etag = DataVersionService.etag(tournamentId, "teams", version);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] json = teamService.getTeamsJson(tournamentId, version);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(json);
     }
 
     // paged listing
@@ -59,6 +79,17 @@ public class TeamController {
         return ResponseEntity.ok(teamService.getTeamsPaged(tournamentId, page, size));
     }
 
+    // keyset listing: pass the returned nextCursor to get the following page
+    @GetMapping("/seek")
+    public ResponseEntity<CursorPage<TeamResponse>> getTeamsAfter(
+            @PathVariable Long tournamentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(teamService.getTeamsAfter(tournamentId, cursor, size, includeTotal));
+    }
+
     @RequestMapping(value = "/{teamId}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     public ResponseEntity<TeamResponse> updateTeam(
             @PathVariable Long tournamentId,
@@ -4,11 +4,10 @@ import com.tournapro.dto.CreateTournamentRequest;
 import com.tournapro.dto.TournamentResponse;
 import com.tournapro.service.TournamentService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/tournaments")
 public class TournamentController {
@@ -28,16 +27,16 @@ public class TournamentController {
         return ResponseEntity.ok(response);
     }
 
-    // GET /api/tournaments  -> list tournaments for current user
+    // GET /api/tournaments  -> list tournaments for current user (cached JSON)
     @GetMapping
-    public ResponseEntity<List<TournamentResponse>> getMyTournaments() {
-        return ResponseEntity.ok(tournamentService.getMyTournaments());
+    public ResponseEntity<byte[]> getMyTournaments() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(tournamentService.getMyTournamentsJson());
     }
 
-    // GET /api/tournaments/{id}  -> fetch by id
+    // GET /api/tournaments/{id}  -> fetch by id (cached JSON)
     @GetMapping("/{id}")
-    public ResponseEntity<TournamentResponse> getTournament(@PathVariable Long id) {
-        return ResponseEntity.ok(tournamentService.getTournament(id));
+    public ResponseEntity<byte[]> getTournament(@PathVariable Long id) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(tournamentService.getTournamentJson(id));
     }
 
     // DELETE /api/tournaments/{id}  -> delete tournament (owned by current user)
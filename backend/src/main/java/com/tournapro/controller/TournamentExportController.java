@@ -0,0 +1,49 @@
+package com.tournapro.controller;
+
+import com.tournapro.service.TournamentExportService;
+import com.tournapro.service.TournamentExportService.Format;
+import com.tournapro.service.TournamentExportService.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Streams the whole tournament roster in one response instead of one call per team
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/export")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class TournamentExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final TournamentExportService exportService;
+
+    public TournamentExportController(TournamentExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // format=csv|ndjson, resource=all|teams|players|referees (csv needs a single resource)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long tournamentId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "all") String resource
+    ) {
+        Format f = TournamentExportService.parseFormat(format);
+        Resource r = TournamentExportService.parseResource(resource);
+        StreamingResponseBody body = exportService.export(tournamentId, f, r);
+
+        String filename = "tournament-" + tournamentId + "-" + r.name().toLowerCase(Locale.ROOT)
+                + (f == Format.CSV ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(f == Format.CSV ? TEXT_CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
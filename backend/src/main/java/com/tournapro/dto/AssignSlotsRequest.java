@@ -0,0 +1,93 @@
+package com.tournapro.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class AssignSlotsRequest {
+
+    // playing windows, e.g. Saturday 09:00-18:00 and Sunday 09:00-16:00
+    @Valid
+    @NotEmpty
+    private List<TimeWindow> windows;
+
+    // pitch names at the venue; defaults to a single pitch
+    private List<String> pitches;
+
+    // match length including changeover
+    @NotNull
+    @Min(5)
+    private Integer slotMinutes;
+
+    // minimum gap between a team's matches; defaults to one slot, i.e. never back to back
+    @Min(0)
+    private Integer minRestMinutes;
+
+    // limit to these divisions; default is every unplayed match of the tournament
+    private List<Long> divisionIds;
+
+    // defaults to true
+    private Boolean assignReferees;
+
+    @Valid
+    private List<RefereeAvailability> refereeAvailability;
+
+    public List<TimeWindow> getWindows() {
+        return windows;
+    }
+
+    public void setWindows(List<TimeWindow> windows) {
+        this.windows = windows;
+    }
+
+    public List<String> getPitches() {
+        return pitches;
+    }
+
+    public void setPitches(List<String> pitches) {
+        this.pitches = pitches;
+    }
+
+    public Integer getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public void setSlotMinutes(Integer slotMinutes) {
+        this.slotMinutes = slotMinutes;
+    }
+
+    public Integer getMinRestMinutes() {
+        return minRestMinutes;
+    }
+
+    public void setMinRestMinutes(Integer minRestMinutes) {
+        this.minRestMinutes = minRestMinutes;
+    }
+
+    public List<Long> getDivisionIds() {
+        return divisionIds;
+    }
+
+    public void setDivisionIds(List<Long> divisionIds) {
+        this.divisionIds = divisionIds;
+    }
+
+    public Boolean getAssignReferees() {
+        return assignReferees;
+    }
+
+    public void setAssignReferees(Boolean assignReferees) {
+        this.assignReferees = assignReferees;
+    }
+
+    public List<RefereeAvailability> getRefereeAvailability() {
+        return refereeAvailability;
+    }
+
+    public void setRefereeAvailability(List<RefereeAvailability> refereeAvailability) {
+        this.refereeAvailability = refereeAvailability;
+    }
+}
@@ -0,0 +1,63 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AssignSlotsResponse {
+
+    private int scheduled;
+    private List<Long> unscheduledMatchIds;
+    private LocalDateTime firstStart;
+    private LocalDateTime lastStart;
+    private long elapsedMs;
+
+    public AssignSlotsResponse() {}
+
+    public AssignSlotsResponse(int scheduled, List<Long> unscheduledMatchIds, LocalDateTime firstStart, LocalDateTime lastStart, long elapsedMs) {
+        this.scheduled = scheduled;
+        this.unscheduledMatchIds = unscheduledMatchIds;
+        this.firstStart = firstStart;
+        this.lastStart = lastStart;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public int getScheduled() {
+        return scheduled;
+    }
+
+    public List<Long> getUnscheduledMatchIds() {
+        return unscheduledMatchIds;
+    }
+
+    public LocalDateTime getFirstStart() {
+        return firstStart;
+    }
+
+    public LocalDateTime getLastStart() {
+        return lastStart;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setScheduled(int scheduled) {
+        this.scheduled = scheduled;
+    }
+
+    public void setUnscheduledMatchIds(List<Long> unscheduledMatchIds) {
+        this.unscheduledMatchIds = unscheduledMatchIds;
+    }
+
+    public void setFirstStart(LocalDateTime firstStart) {
+        this.firstStart = firstStart;
+    }
+
+    public void setLastStart(LocalDateTime lastStart) {
+        this.lastStart = lastStart;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tournapro.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public class AuditEventResponse {
+
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private String actorEmail;
+    private LocalDateTime occurredAt;
+    // stored as JSON, written out as it is
+    @JsonRawValue
+    private String payload;
+
+    public AuditEventResponse() { }
+
+    public AuditEventResponse(Long id, String entityType, Long entityId, String action,
+                              String actorEmail, LocalDateTime occurredAt, String payload) {
+        this.id = id;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.actorEmail = actorEmail;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getActorEmail() {
+        return actorEmail;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,152 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+
+public class BracketNodeResponse {
+
+    private int slot;
+    private String bracketType;
+    private int round;
+    private Long matchId;
+    private Long homeTeamId;
+    private String homeTeamName;
+    private Long awayTeamId;
+    private String awayTeamName;
+    private Integer homeScore;
+    private Integer awayScore;
+    private String status;
+    private LocalDateTime scheduledTime;
+    private Integer winTo;
+    private Integer loseTo;
+
+    public BracketNodeResponse() {}
+
+    public BracketNodeResponse(int slot, String bracketType, int round, Long matchId, Long homeTeamId, String homeTeamName, Long awayTeamId, String awayTeamName, Integer homeScore, Integer awayScore, String status, LocalDateTime scheduledTime, Integer winTo, Integer loseTo) {
+        this.slot = slot;
+        this.bracketType = bracketType;
+        this.round = round;
+        this.matchId = matchId;
+        this.homeTeamId = homeTeamId;
+        this.homeTeamName = homeTeamName;
+        this.awayTeamId = awayTeamId;
+        this.awayTeamName = awayTeamName;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.status = status;
+        this.scheduledTime = scheduledTime;
+        this.winTo = winTo;
+        this.loseTo = loseTo;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public String getBracketType() {
+        return bracketType;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    public Long getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public String getAwayTeamName() {
+        return awayTeamName;
+    }
+
+    public Integer getHomeScore() {
+        return homeScore;
+    }
+
+    public Integer getAwayScore() {
+        return awayScore;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+
+    public Integer getWinTo() {
+        return winTo;
+    }
+
+    public Integer getLoseTo() {
+        return loseTo;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    public void setBracketType(String bracketType) {
+        this.bracketType = bracketType;
+    }
+
+    public void setRound(int round) {
+        this.round = round;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public void setHomeTeamId(Long homeTeamId) {
+        this.homeTeamId = homeTeamId;
+    }
+
+    public void setHomeTeamName(String homeTeamName) {
+        this.homeTeamName = homeTeamName;
+    }
+
+    public void setAwayTeamId(Long awayTeamId) {
+        this.awayTeamId = awayTeamId;
+    }
+
+    public void setAwayTeamName(String awayTeamName) {
+        this.awayTeamName = awayTeamName;
+    }
+
+    public void setHomeScore(Integer homeScore) {
+        this.homeScore = homeScore;
+    }
+
+    public void setAwayScore(Integer awayScore) {
+        this.awayScore = awayScore;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setScheduledTime(LocalDateTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+    }
+
+    public void setWinTo(Integer winTo) {
+        this.winTo = winTo;
+    }
+
+    public void setLoseTo(Integer loseTo) {
+        this.loseTo = loseTo;
+    }
+}
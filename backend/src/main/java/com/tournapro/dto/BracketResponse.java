@@ -0,0 +1,62 @@
+package com.tournapro.dto;
+
+import java.util.List;
+
+public class BracketResponse {
+
+    private Long divisionId;
+    private String format;
+    private int size;
+    private int entrants;
+    private List<BracketNodeResponse> nodes;
+
+    public BracketResponse() {}
+
+    public BracketResponse(Long divisionId, String format, int size, int entrants, List<BracketNodeResponse> nodes) {
+        this.divisionId = divisionId;
+        this.format = format;
+        this.size = size;
+        this.entrants = entrants;
+        this.nodes = nodes;
+    }
+
+    public Long getDivisionId() {
+        return divisionId;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getEntrants() {
+        return entrants;
+    }
+
+    public List<BracketNodeResponse> getNodes() {
+        return nodes;
+    }
+
+    public void setDivisionId(Long divisionId) {
+        this.divisionId = divisionId;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public void setEntrants(int entrants) {
+        this.entrants = entrants;
+    }
+
+    public void setNodes(List<BracketNodeResponse> nodes) {
+        this.nodes = nodes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.tournapro.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+public class CreateDivisionRequest {
+
+    @NotBlank
+    private String name;
+
+    // optional; replaces the division's team list when present
+    private List<Long> teamIds;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Long> getTeamIds() {
+        return teamIds;
+    }
+
+    public void setTeamIds(List<Long> teamIds) {
+        this.teamIds = teamIds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tournapro.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) listing. Pass {@code nextCursor} back to fetch the following page;
+ * it is null on the last page. {@code totalElements} is only filled when explicitly requested
+ * because counting costs a full scan of the tournament's rows.
+ */
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private Long totalElements;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
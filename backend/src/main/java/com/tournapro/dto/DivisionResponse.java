@@ -0,0 +1,53 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DivisionResponse {
+
+    private Long id;
+    private String name;
+    private List<Long> teamIds;
+    private LocalDateTime createdAt;
+
+    public DivisionResponse() {}
+
+    public DivisionResponse(Long id, String name, List<Long> teamIds, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.teamIds = teamIds;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Long> getTeamIds() {
+        return teamIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setTeamIds(List<Long> teamIds) {
+        this.teamIds = teamIds;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
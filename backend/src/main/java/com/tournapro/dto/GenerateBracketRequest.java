@@ -0,0 +1,53 @@
+package com.tournapro.dto;
+
+import jakarta.validation.constraints.Min;
+
+import java.util.List;
+
+public class GenerateBracketRequest {
+
+    // SINGLE (default) or DOUBLE elimination
+    private String format;
+
+    // explicit seed order, best first; when omitted seeds come from the group standings
+    private List<Long> teamIds;
+
+    // how many teams of each group go through; all of them when omitted
+    @Min(1)
+    private Integer qualifiersPerGroup;
+
+    // defaults to the tournament's primary venue
+    private String venue;
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public List<Long> getTeamIds() {
+        return teamIds;
+    }
+
+    public void setTeamIds(List<Long> teamIds) {
+        this.teamIds = teamIds;
+    }
+
+    public Integer getQualifiersPerGroup() {
+        return qualifiersPerGroup;
+    }
+
+    public void setQualifiersPerGroup(Integer qualifiersPerGroup) {
+        this.qualifiersPerGroup = qualifiersPerGroup;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+}
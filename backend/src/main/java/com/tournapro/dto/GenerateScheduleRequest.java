@@ -0,0 +1,40 @@
+package com.tournapro.dto;
+
+import jakarta.validation.constraints.Min;
+
+public class GenerateScheduleRequest {
+
+    // number of groups for a group stage; 1 (default) plays the whole division as one league
+    @Min(1)
+    private Integer groups;
+
+    // home and away legs
+    private Boolean doubleRoundRobin;
+
+    // defaults to the tournament's primary venue
+    private String venue;
+
+    public Integer getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Integer groups) {
+        this.groups = groups;
+    }
+
+    public Boolean getDoubleRoundRobin() {
+        return doubleRoundRobin;
+    }
+
+    public void setDoubleRoundRobin(Boolean doubleRoundRobin) {
+        this.doubleRoundRobin = doubleRoundRobin;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+}
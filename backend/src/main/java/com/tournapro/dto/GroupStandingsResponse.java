@@ -0,0 +1,33 @@
+package com.tournapro.dto;
+
+import java.util.List;
+
+// Standings of one group; label is null when the division plays as a single league
+public class GroupStandingsResponse {
+
+    private String label;
+    private List<StandingRowResponse> rows;
+
+    public GroupStandingsResponse() {}
+
+    public GroupStandingsResponse(String label, List<StandingRowResponse> rows) {
+        this.label = label;
+        this.rows = rows;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<StandingRowResponse> getRows() {
+        return rows;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public void setRows(List<StandingRowResponse> rows) {
+        this.rows = rows;
+    }
+}
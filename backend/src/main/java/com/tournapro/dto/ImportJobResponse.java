@@ -0,0 +1,105 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ImportJobResponse {
+
+    private String id;
+    private String type;
+    private String status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowError> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public ImportJobResponse() {}
+
+    public ImportJobResponse(String id, String type, String status, long processedRows, long importedRows,
+                             long failedRows, List<ImportRowError> errors,
+                             LocalDateTime createdAt, LocalDateTime finishedAt) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.processedRows = processedRows;
+        this.importedRows = importedRows;
+        this.failedRows = failedRows;
+        this.errors = errors;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public List<ImportRowError> getErrors() {
+        return errors;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public void setErrors(List<ImportRowError> errors) {
+        this.errors = errors;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,182 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+
+public class MatchResponse {
+
+    private Long id;
+    private Long divisionId;
+    private Integer round;
+    private String groupLabel;
+    private Long homeTeamId;
+    private String homeTeamName;
+    private Long awayTeamId;
+    private String awayTeamName;
+    private String venue;
+    private String pitch;
+    private Long refereeId;
+    private String refereeName;
+    private String bracketType;
+    private LocalDateTime scheduledTime;
+    private Integer homeScore;
+    private Integer awayScore;
+    private String status;
+
+    public MatchResponse() {}
+
+    public MatchResponse(Long id, Long divisionId, Integer round, String groupLabel, Long homeTeamId, String homeTeamName, Long awayTeamId, String awayTeamName, String venue, String pitch, Long refereeId, String refereeName, String bracketType, LocalDateTime scheduledTime, Integer homeScore, Integer awayScore, String status) {
+        this.id = id;
+        this.divisionId = divisionId;
+        this.round = round;
+        this.groupLabel = groupLabel;
+        this.homeTeamId = homeTeamId;
+        this.homeTeamName = homeTeamName;
+        this.awayTeamId = awayTeamId;
+        this.awayTeamName = awayTeamName;
+        this.venue = venue;
+        this.pitch = pitch;
+        this.refereeId = refereeId;
+        this.refereeName = refereeName;
+        this.bracketType = bracketType;
+        this.scheduledTime = scheduledTime;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDivisionId() {
+        return divisionId;
+    }
+
+    public Integer getRound() {
+        return round;
+    }
+
+    public String getGroupLabel() {
+        return groupLabel;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    public Long getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public String getAwayTeamName() {
+        return awayTeamName;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public String getPitch() {
+        return pitch;
+    }
+
+    public Long getRefereeId() {
+        return refereeId;
+    }
+
+    public String getRefereeName() {
+        return refereeName;
+    }
+
+    public String getBracketType() {
+        return bracketType;
+    }
+
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+
+    public Integer getHomeScore() {
+        return homeScore;
+    }
+
+    public Integer getAwayScore() {
+        return awayScore;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setDivisionId(Long divisionId) {
+        this.divisionId = divisionId;
+    }
+
+    public void setRound(Integer round) {
+        this.round = round;
+    }
+
+    public void setGroupLabel(String groupLabel) {
+        this.groupLabel = groupLabel;
+    }
+
+    public void setHomeTeamId(Long homeTeamId) {
+        this.homeTeamId = homeTeamId;
+    }
+
+    public void setHomeTeamName(String homeTeamName) {
+        this.homeTeamName = homeTeamName;
+    }
+
+    public void setAwayTeamId(Long awayTeamId) {
+        this.awayTeamId = awayTeamId;
+    }
+
+    public void setAwayTeamName(String awayTeamName) {
+        this.awayTeamName = awayTeamName;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+
+    public void setPitch(String pitch) {
+        this.pitch = pitch;
+    }
+
+    public void setRefereeId(Long refereeId) {
+        this.refereeId = refereeId;
+    }
+
+    public void setRefereeName(String refereeName) {
+        this.refereeName = refereeName;
+    }
+
+    public void setBracketType(String bracketType) {
+        this.bracketType = bracketType;
+    }
+
+    public void setScheduledTime(LocalDateTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+    }
+
+    public void setHomeScore(Integer homeScore) {
+        this.homeScore = homeScore;
+    }
+
+    public void setAwayScore(Integer awayScore) {
+        this.awayScore = awayScore;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,31 @@
+package com.tournapro.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class MatchResultRequest {
+
+    @NotNull
+    @Min(0)
+    private Integer homeScore;
+
+    @NotNull
+    @Min(0)
+    private Integer awayScore;
+
+    public Integer getHomeScore() {
+        return homeScore;
+    }
+
+    public void setHomeScore(Integer homeScore) {
+        this.homeScore = homeScore;
+    }
+
+    public Integer getAwayScore() {
+        return awayScore;
+    }
+
+    public void setAwayScore(Integer awayScore) {
+        this.awayScore = awayScore;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tournapro.dto;
+
+/** What spectators see of a player: no date of birth. */
+public class PublicPlayerResponse {
+
+    private Long id;
+    private String name;
+    private Integer number;
+
+    public PublicPlayerResponse() {}
+
+    public PublicPlayerResponse(Long id, String name, Integer number) {
+        this.id = id;
+        this.name = name;
+        this.number = number;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getNumber() {
+        return number;
+    }
+}
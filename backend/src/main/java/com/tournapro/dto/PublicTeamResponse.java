@@ -0,0 +1,61 @@
+package com.tournapro.dto;
+
+/** What spectators see of a team: no contact, attendance or payment details. */
+public class PublicTeamResponse {
+
+    private Long id;
+    private String name;
+    private String shortName;
+    private String country;
+    private String logoUrl;
+
+    public PublicTeamResponse() {}
+
+    public PublicTeamResponse(Long id, String name, String shortName, String country, String logoUrl) {
+        this.id = id;
+        this.name = name;
+        this.shortName = shortName;
+        this.country = country;
+        this.logoUrl = logoUrl;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getShortName() {
+        return shortName;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public String getLogoUrl() {
+        return logoUrl;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setShortName(String shortName) {
+        this.shortName = shortName;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public void setLogoUrl(String logoUrl) {
+        this.logoUrl = logoUrl;
+    }
+}
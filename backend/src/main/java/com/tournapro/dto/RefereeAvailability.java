@@ -0,0 +1,34 @@
+package com.tournapro.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// Referees without an entry are available for every slot
+public class RefereeAvailability {
+
+    @NotNull
+    private Long refereeId;
+
+    @Valid
+    @NotEmpty
+    private List<TimeWindow> windows;
+
+    public Long getRefereeId() {
+        return refereeId;
+    }
+
+    public void setRefereeId(Long refereeId) {
+        this.refereeId = refereeId;
+    }
+
+    public List<TimeWindow> getWindows() {
+        return windows;
+    }
+
+    public void setWindows(List<TimeWindow> windows) {
+        this.windows = windows;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tournapro.dto;
+
+public class ScheduleResponse {
+
+    private Long divisionId;
+    private int groups;
+    private int rounds;
+    private int matches;
+
+    public ScheduleResponse() {}
+
+    public ScheduleResponse(Long divisionId, int groups, int rounds, int matches) {
+        this.divisionId = divisionId;
+        this.groups = groups;
+        this.rounds = rounds;
+        this.matches = matches;
+    }
+
+    public Long getDivisionId() {
+        return divisionId;
+    }
+
+    public int getGroups() {
+        return groups;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    public void setDivisionId(Long divisionId) {
+        this.divisionId = divisionId;
+    }
+
+    public void setGroups(int groups) {
+        this.groups = groups;
+    }
+
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    public void setMatches(int matches) {
+        this.matches = matches;
+    }
+}
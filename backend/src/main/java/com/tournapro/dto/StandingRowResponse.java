@@ -0,0 +1,120 @@
+package com.tournapro.dto;
+
+public class StandingRowResponse {
+
+    private int position;
+    private Long teamId;
+    private String teamName;
+    private int played;
+    private int won;
+    private int drawn;
+    private int lost;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int goalDifference;
+    private int points;
+
+    public StandingRowResponse() {}
+
+    public StandingRowResponse(int position, Long teamId, String teamName, int played, int won, int drawn, int lost, int goalsFor, int goalsAgainst, int goalDifference, int points) {
+        this.position = position;
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.played = played;
+        this.won = won;
+        this.drawn = drawn;
+        this.lost = lost;
+        this.goalsFor = goalsFor;
+        this.goalsAgainst = goalsAgainst;
+        this.goalDifference = goalDifference;
+        this.points = points;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public int getPlayed() {
+        return played;
+    }
+
+    public int getWon() {
+        return won;
+    }
+
+    public int getDrawn() {
+        return drawn;
+    }
+
+    public int getLost() {
+        return lost;
+    }
+
+    public int getGoalsFor() {
+        return goalsFor;
+    }
+
+    public int getGoalsAgainst() {
+        return goalsAgainst;
+    }
+
+    public int getGoalDifference() {
+        return goalDifference;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
+    public void setPlayed(int played) {
+        this.played = played;
+    }
+
+    public void setWon(int won) {
+        this.won = won;
+    }
+
+    public void setDrawn(int drawn) {
+        this.drawn = drawn;
+    }
+
+    public void setLost(int lost) {
+        this.lost = lost;
+    }
+
+    public void setGoalsFor(int goalsFor) {
+        this.goalsFor = goalsFor;
+    }
+
+    public void setGoalsAgainst(int goalsAgainst) {
+        this.goalsAgainst = goalsAgainst;
+    }
+
+    public void setGoalDifference(int goalDifference) {
+        this.goalDifference = goalDifference;
+    }
+
+    public void setPoints(int points) {
+        this.points = points;
+    }
+}
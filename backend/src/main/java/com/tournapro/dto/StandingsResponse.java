@@ -0,0 +1,42 @@
+package com.tournapro.dto;
+
+import java.util.List;
+
+public class StandingsResponse {
+
+    private Long divisionId;
+    private long version;
+    private List<GroupStandingsResponse> groups;
+
+    public StandingsResponse() {}
+
+    public StandingsResponse(Long divisionId, long version, List<GroupStandingsResponse> groups) {
+        this.divisionId = divisionId;
+        this.version = version;
+        this.groups = groups;
+    }
+
+    public Long getDivisionId() {
+        return divisionId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<GroupStandingsResponse> getGroups() {
+        return groups;
+    }
+
+    public void setDivisionId(Long divisionId) {
+        this.divisionId = divisionId;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public void setGroups(List<GroupStandingsResponse> groups) {
+        this.groups = groups;
+    }
+}
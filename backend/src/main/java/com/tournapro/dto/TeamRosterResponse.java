@@ -0,0 +1,26 @@
+package com.tournapro.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A team together with its players, as returned by the roster endpoint
+public class TeamRosterResponse extends TeamResponse {
+
+    private List<PlayerResponse> players = new ArrayList<>();
+
+    public TeamRosterResponse() {}
+
+    public TeamRosterResponse(TeamResponse team, List<PlayerResponse> players) {
+        super(team.getId(), team.getName(), team.getShortName(), team.getEmail(), team.getCountry(),
+                team.getLogoUrl(), team.getDressingRoom(), team.getPresent(), team.getPaid(), team.getCreatedAt());
+        this.players = players;
+    }
+
+    public List<PlayerResponse> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<PlayerResponse> players) {
+        this.players = players;
+    }
+}
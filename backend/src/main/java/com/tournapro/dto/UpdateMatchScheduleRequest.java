@@ -0,0 +1,47 @@
+package com.tournapro.dto;
+
+import java.time.LocalDateTime;
+
+public class UpdateMatchScheduleRequest {
+
+    private LocalDateTime scheduledTime;
+
+    private String venue;
+
+    private String pitch;
+
+    // null clears the referee
+    private Long refereeId;
+
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+
+    public void setScheduledTime(LocalDateTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+
+    public String getPitch() {
+        return pitch;
+    }
+
+    public void setPitch(String pitch) {
+        this.pitch = pitch;
+    }
+
+    public Long getRefereeId() {
+        return refereeId;
+    }
+
+    public void setRefereeId(Long refereeId) {
+        this.refereeId = refereeId;
+    }
+}
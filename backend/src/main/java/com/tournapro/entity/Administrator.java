@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public class Administrator {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "administrators_seq")
+    @SequenceGenerator(name = "administrators_seq", sequenceName = "administrators_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,100 @@
+package com.tournapro.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only audit log. It keeps the id of the outbox entry it was moved from,
+ * so rows are never updated and {@link #isNew()} is always true: saving one is a plain insert.
+ */
+@Entity
+@Table(name = "audit_events")
+public class AuditEvent implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "actor_email", length = 255)
+    private String actorEmail;
+
+    @Column(name = "entity_type", nullable = false, length = 30)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(nullable = false, length = 20)
+    private String action;
+
+    // JSON of the entity's response DTO after the change (before it, for deletes)
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    protected AuditEvent() {
+    }
+
+    public AuditEvent(AuditOutboxEntry entry) {
+        this.id = entry.getId();
+        this.tournamentId = entry.getTournamentId();
+        this.actorId = entry.getActorId();
+        this.actorEmail = entry.getActorEmail();
+        this.entityType = entry.getEntityType();
+        this.entityId = entry.getEntityId();
+        this.action = entry.getAction();
+        this.payload = entry.getPayload();
+        this.occurredAt = entry.getOccurredAt();
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public String getActorEmail() {
+        return actorEmail;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tournapro.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "divisions")
+public class Division {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "tournament_id", nullable = false)
+    private Tournament tournament;
+
+    @Column(nullable = false, length = 255)
+    private String name;
+
+    @ManyToMany
+    @JoinTable(
+            name = "division_teams",
+            joinColumns = @JoinColumn(name = "division_id"),
+            inverseJoinColumns = @JoinColumn(name = "team_id")
+    )
+    private Set<Team> teams = new LinkedHashSet<>();
+
+    // SINGLE or DOUBLE once an elimination bracket has been generated
+    @Column(name = "bracket_format", length = 20)
+    private String bracketFormat;
+
+    @Column(name = "bracket_entrants")
+    private Integer bracketEntrants;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // --- getters & setters ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public void setTournament(Tournament tournament) {
+        this.tournament = tournament;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<Team> getTeams() {
+        return teams;
+    }
+
+    public void setTeams(Set<Team> teams) {
+        this.teams = teams;
+    }
+
+    public String getBracketFormat() {
+        return bracketFormat;
+    }
+
+    public void setBracketFormat(String bracketFormat) {
+        this.bracketFormat = bracketFormat;
+    }
+
+    public Integer getBracketEntrants() {
+        return bracketEntrants;
+    }
+
+    public void setBracketEntrants(Integer bracketEntrants) {
+        this.bracketEntrants = bracketEntrants;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
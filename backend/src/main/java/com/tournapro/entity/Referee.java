@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public class Referee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "referees_seq")
+    @SequenceGenerator(name = "referees_seq", sequenceName = "referees_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
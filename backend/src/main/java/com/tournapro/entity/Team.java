@@ -7,8 +7,10 @@ import java.time.LocalDateTime;
 @Table(name = "teams")
 public class Team {
 
+    // pooled sequence instead of IDENTITY so bulk inserts can be JDBC-batched; allocationSize = INCREMENT (V13)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
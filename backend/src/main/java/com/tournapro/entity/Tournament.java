@@ -1,11 +1,16 @@
 package com.tournapro.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tournaments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Tournament {
 
     @Id
@@ -28,6 +33,11 @@ public class Tournament {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // only ever incremented in the database (TournamentRepository.bumpDataVersion), which leaves the
+    // second-level cache alone; read it with TournamentRepository.findDataVersion
+    @Column(name = "data_version", nullable = false, updatable = false)
+    private long dataVersion;
+
     // --- getters & setters ---
 
     public Long getId() {
@@ -78,4 +88,3 @@ public class Tournament {
         this.createdAt = createdAt;
     }
 }
-
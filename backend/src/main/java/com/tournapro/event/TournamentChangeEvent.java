@@ -0,0 +1,63 @@
+package com.tournapro.event;
+
+import java.util.Map;
+
+/**
+ * Something spectators of a tournament should see, published by the services through Spring's
+ * event bus. Listeners receive it after the surrounding transaction commits. The payload is the
+ * same response DTO the REST API returns for the entity, {@link #deleted} for removals, or a
+ * {@code Supplier} of it when the state to send is only known after commit.
+ */
+public class TournamentChangeEvent {
+
+    public static final String MATCH_UPDATE = "MATCH_UPDATE";
+    public static final String STANDINGS_UPDATE = "STANDINGS_UPDATE";
+    public static final String TEAM_UPDATE = "TEAM_UPDATE";
+    public static final String PLAYER_UPDATE = "PLAYER_UPDATE";
+    public static final String TOURNAMENT_UPDATE = "TOURNAMENT_UPDATE";
+    public static final String DIVISION_UPDATE = "DIVISION_UPDATE";
+    // many teams or players changed at once (bulk create, CSV import): reload the roster
+    public static final String ROSTER_UPDATE = "ROSTER_UPDATE";
+
+    private final Long tournamentId;
+    private final String type;
+    private final Long entityId;
+    private final Object payload;
+
+    public TournamentChangeEvent(Long tournamentId, String type, Long entityId, Object payload) {
+        this.tournamentId = tournamentId;
+        this.type = type;
+        this.entityId = entityId;
+        this.payload = payload;
+    }
+
+    public static Map<String, Object> deleted(Long id) {
+        return Map.of("id", id, "deleted", true);
+    }
+
+    // payload of a ROSTER_UPDATE
+    public static Map<String, Object> rosterChanged(int count) {
+        return Map.of("count", count);
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    // a newer event for the same entity supersedes one that has not been sent yet
+    public String coalesceKey() {
+        return type + ":" + entityId;
+    }
+}
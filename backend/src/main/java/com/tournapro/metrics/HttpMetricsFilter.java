@@ -0,0 +1,62 @@
+package com.tournapro.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Times every HTTP request as {@code http_server_requests_seconds{method,uri,status}}. The uri tag
+ * is the matched route template ({@code /api/tournaments/{id}/teams}), never the raw path, so ids
+ * do not create new series. Runs ahead of Spring Security, so rejected requests are counted too;
+ * streamed responses are timed until the handler hands them to the async writer.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class HttpMetricsFilter extends OncePerRequestFilter {
+
+    private final MetricsRegistry metrics;
+
+    public HttpMetricsFilter(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = 500;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            metrics.timer("http_server_requests_seconds", "HTTP requests by route and status",
+                            "method", request.getMethod(),
+                            "uri", uri(request, status),
+                            "status", Integer.toString(status))
+                    .record(System.nanoTime() - start);
+        }
+    }
+
+    private static String uri(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == 404) {
+            return "NOT_FOUND";
+        }
+        if (status == 401 || status == 403) {
+            return "DENIED";
+        }
+        return "UNMATCHED";
+    }
+}
@@ -0,0 +1,106 @@
+package com.tournapro.metrics;
+
+import com.tournapro.config.ReadReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hooks metrics into beans the application does not create itself:
+ * <ul>
+ *   <li>every Spring Data repository reports {@code tournapro_repository_seconds{repository,method,state}};</li>
+ *   <li>each Hikari pool (the primary and any read replicas) reports connection acquire and usage
+ *       times, timeouts and its active/idle/total/pending connection counts, tagged with the pool name.</li>
+ * </ul>
+ * The registry is looked up on first use, as post-processors are created before other beans.
+ */
+@Component
+public class MetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MetricsRegistry> metrics;
+
+    public MetricsPostProcessor(ObjectProvider<MetricsRegistry> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            // must be added before afterPropertiesSet creates the repository
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(repositoryListener()));
+        } else if (bean instanceof HikariDataSource dataSource) {
+            instrument(dataSource);
+        } else if (bean instanceof ReadReplicaDataSource routing) {
+            routing.pools().forEach(this::instrument);
+        }
+        return bean;
+    }
+
+    // the pool starts on the first getConnection(), after this
+    private void instrument(HikariDataSource dataSource) {
+        if (dataSource.getMetricsTrackerFactory() == null) {
+            dataSource.setMetricsTrackerFactory(new PoolMetrics());
+        }
+    }
+
+    private RepositoryMethodInvocationListener repositoryListener() {
+        return invocation -> metrics.getObject()
+                .timer("tournapro_repository_seconds", "Time spent in repository methods",
+                        "repository", invocation.getRepositoryInterface().getSimpleName(),
+                        "method", invocation.getMethod().getName(),
+                        "state", invocation.getResult().getState().name().toLowerCase())
+                .record(invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+
+    private final class PoolMetrics implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats stats) {
+            MetricsRegistry registry = metrics.getObject();
+            registry.gauge("hikaricp_connections_active", "Connections in use", stats::getActiveConnections, "pool", poolName);
+            registry.gauge("hikaricp_connections_idle", "Idle connections", stats::getIdleConnections, "pool", poolName);
+            registry.gauge("hikaricp_connections", "Open connections", stats::getTotalConnections, "pool", poolName);
+            registry.gauge("hikaricp_connections_pending", "Threads waiting for a connection", stats::getPendingThreads, "pool", poolName);
+            registry.gauge("hikaricp_connections_max", "Maximum pool size", stats::getMaxConnections, "pool", poolName);
+
+            MetricsRegistry.Timer acquire = registry.timer("hikaricp_connections_acquire_seconds",
+                    "Time waiting for a connection", "pool", poolName);
+            MetricsRegistry.Timer usage = registry.timer("hikaricp_connections_usage_seconds",
+                    "Time a connection is held before it is returned", "pool", poolName);
+            MetricsRegistry.Timer creation = registry.timer("hikaricp_connections_creation_seconds",
+                    "Time to open a new connection", "pool", poolName);
+            MetricsRegistry.Counter timeouts = registry.counter("hikaricp_connections_timeout",
+                    "Requests for a connection that timed out", "pool", poolName);
+
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    acquire.record(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+                }
+
+                @Override
+                public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                    creation.record(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    timeouts.increment();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.tournapro.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Timers, counters and gauges of the application, written out in the Prometheus text format for
+ * the scrape endpoint. Meters are looked up by name and tags and created on first use; recording
+ * is lock-free. Tags must come from small fixed sets (class and method names, outcomes, URI
+ * templates), never from ids or user input: each family keeps at most {@link #MAX_SERIES} series
+ * and ignores new ones past that.
+ */
+@Component
+public class MetricsRegistry {
+
+    public static final int MAX_SERIES = 1000;
+
+    // seconds; the usual Prometheus spread from a fast query to a slow request
+    static final double[] BUCKETS = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+
+    /** Histogram of durations, exported as {@code <name>_bucket}, {@code _sum} and {@code _count}. */
+    public Timer timer(String name, String help, String... tags) {
+        return (Timer) family(name, help, "histogram").series(labels(tags), Timer::new);
+    }
+
+    /** Monotonic count, exported as {@code <name>_total}. */
+    public Counter counter(String name, String help, String... tags) {
+        return (Counter) family(name, help, "counter").series(labels(tags), Counter::new);
+    }
+
+    /** Current value read at scrape time, e.g. a pool size. */
+    public void gauge(String name, String help, Supplier<Number> value, String... tags) {
+        family(name, help, "gauge").series(labels(tags), () -> new Sampled(value, ""));
+    }
+
+    /** A count kept elsewhere (e.g. by Hibernate), read at scrape time and exported as {@code <name>_total}. */
+    public void counterFunction(String name, String help, Supplier<Number> value, String... tags) {
+        family(name, help, "counter").series(labels(tags), () -> new Sampled(value, "_total"));
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+        for (Family f : new TreeMap<>(families).values()) {
+            f.write(out);
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String help, String type) {
+        Family f = families.computeIfAbsent(name, n -> new Family(n, help, type));
+        if (!f.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is a " + f.type + ", not a " + type);
+        }
+        return f;
+    }
+
+    // name="value" pairs, in the order given
+    static String labels(String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags come in name/value pairs");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tags.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(tags[i]).append("=\"");
+            String value = tags[i + 1] != null ? tags[i + 1] : "";
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    sb.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    sb.append("\\n");
+                } else {
+                    sb.append(ch);
+                }
+            }
+            sb.append('"');
+        }
+        return sb.toString();
+    }
+
+    private interface Meter {
+        void write(StringBuilder out, String name, String labels);
+    }
+
+    private static final class Family {
+
+        final String name;
+        final String help;
+        final String type;
+        final ConcurrentHashMap<String, Meter> series = new ConcurrentHashMap<>();
+        volatile boolean warned;
+
+        Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        Meter series(String labels, Supplier<Meter> create) {
+            Meter m = series.get(labels);
+            if (m != null) {
+                return m;
+            }
+            if (series.size() >= MAX_SERIES) {
+                if (!warned) {
+                    warned = true;
+                    log.warn("Metric {} has {} series; new ones are not recorded", name, MAX_SERIES);
+                }
+                // recorded nowhere, so a runaway tag cannot grow the scrape
+                return create.get();
+            }
+            return series.computeIfAbsent(labels, l -> create.get());
+        }
+
+        void write(StringBuilder out) {
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            for (Map.Entry<String, Meter> e : new TreeMap<>(series).entrySet()) {
+                e.getValue().write(out, name, e.getKey());
+            }
+        }
+    }
+
+    public static final class Timer implements Meter {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        Timer() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos) {
+            double seconds = nanos / 1e9;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (seconds <= BUCKETS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            String sep = labels.isEmpty() ? "" : ",";
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append(name).append("_bucket{").append(labels).append(sep)
+                        .append("le=\"").append(BUCKETS[i]).append("\"} ").append(cumulative).append('\n');
+            }
+            long n = count.sum();
+            out.append(name).append("_bucket{").append(labels).append(sep).append("le=\"+Inf\"} ").append(n).append('\n');
+            out.append(name).append("_sum").append(braces(labels)).append(' ').append(totalNanos.sum() / 1e9).append('\n');
+            out.append(name).append("_count").append(braces(labels)).append(' ').append(n).append('\n');
+        }
+    }
+
+    public static final class Counter implements Meter {
+
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void increment(long n) {
+            value.add(n);
+        }
+
+        public long count() {
+            return value.sum();
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            out.append(name).append("_total").append(braces(labels)).append(' ').append(value.sum()).append('\n');
+        }
+    }
+
+    private static final class Sampled implements Meter {
+
+        private final Supplier<Number> value;
+        // "_total" for counters, as Counter writes them
+        private final String suffix;
+
+        Sampled(Supplier<Number> value, String suffix) {
+            this.value = value;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            Number v = value.get();
+            if (v != null) {
+                out.append(name).append(suffix).append(braces(labels)).append(' ').append(v).append('\n');
+            }
+        }
+    }
+
+    private static String braces(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+}
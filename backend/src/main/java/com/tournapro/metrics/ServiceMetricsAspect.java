@@ -0,0 +1,44 @@
+package com.tournapro.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the organizer-facing services as
+ * {@code tournapro_service_seconds{service,method,outcome}}; outcome is {@code success} or the
+ * simple name of the exception thrown.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private final MetricsRegistry metrics;
+
+    public ServiceMetricsAspect(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Around("execution(public * com.tournapro.service.TeamService.*(..))"
+            + " || execution(public * com.tournapro.service.PlayerService.*(..))"
+            + " || execution(public * com.tournapro.service.RefereeService.*(..))"
+            + " || execution(public * com.tournapro.service.TournamentService.*(..))"
+            + " || execution(public * com.tournapro.service.AuthService.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        String outcome = "success";
+        long start = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            metrics.timer("tournapro_service_seconds", "Time spent in service methods",
+                            "service", pjp.getSignature().getDeclaringType().getSimpleName(),
+                            "method", pjp.getSignature().getName(),
+                            "outcome", outcome)
+                    .record(System.nanoTime() - start);
+        }
+    }
+}
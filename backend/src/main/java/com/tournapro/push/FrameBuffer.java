@@ -0,0 +1,61 @@
+package com.tournapro.push;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The last frames sent for one tournament, so a client that reconnects with the id of the last
+ * frame it saw can be sent what it missed. Fixed capacity; the oldest frame is overwritten.
+ */
+final class FrameBuffer {
+
+    private final long[] ids;
+    private final String[] frames;
+    private int head;
+    private int size;
+    // frames with ids up to here can no longer be replayed
+    private long floor;
+
+    FrameBuffer(int capacity, long floor) {
+        this.ids = new long[capacity];
+        this.frames = new String[capacity];
+        this.floor = floor;
+    }
+
+    void add(long id, String frame) {
+        int tail = (head + size) % ids.length;
+        if (size == ids.length) {
+            floor = ids[head];
+            head = (head + 1) % ids.length;
+        } else {
+            size++;
+        }
+        ids[tail] = id;
+        frames[tail] = frame;
+    }
+
+    /** Frames after {@code lastId}, oldest first, or null if some of them are gone. */
+    List<Frame> since(long lastId, long latestIssued) {
+        if (lastId < floor || lastId > latestIssued) {
+            return null;
+        }
+        List<Frame> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int at = (head + i) % ids.length;
+            if (ids[at] > lastId) {
+                result.add(new Frame(ids[at], frames[at]));
+            }
+        }
+        return result;
+    }
+
+    static final class Frame {
+        final long id;
+        final String data;
+
+        Frame(long id, String data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tournapro.push;
+
+import java.util.Set;
+
+/** A spectator connection that {@link TournamentBroadcaster} hands frames to, over WebSocket or SSE. */
+interface FrameSink {
+
+    /** Queues a frame without blocking; {@code id} is the frame's position in the event feed. */
+    void send(long id, String frame);
+
+    /** Called periodically so idle connections are kept alive and dead ones noticed. */
+    void heartbeat();
+
+    boolean isClosed();
+
+    Set<Long> tournaments();
+}
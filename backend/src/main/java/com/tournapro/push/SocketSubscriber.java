@@ -0,0 +1,107 @@
+package com.tournapro.push;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One spectator socket. Frames go out with the container's async send, one at a time, so no
+ * thread ever waits on a slow client; frames queued behind an in-flight send are sent when it
+ * completes. A client that falls more than {@code maxBacklog} frames behind is disconnected and
+ * reloads on reconnect.
+ */
+final class SocketSubscriber implements FrameSink {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketSubscriber.class);
+
+    private final Session session;
+    private final int maxBacklog;
+    private final Set<Long> tournaments = ConcurrentHashMap.newKeySet();
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    SocketSubscriber(Session session, int maxBacklog) {
+        this.session = session;
+        this.maxBacklog = maxBacklog;
+    }
+
+    @Override
+    public Set<Long> tournaments() {
+        return tournaments;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // the container answers pings and notices dead connections itself
+    @Override
+    public void heartbeat() {
+    }
+
+    @Override
+    public void send(long id, String frame) {
+        if (closed) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxBacklog) {
+            close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Too slow"));
+            return;
+        }
+        queue.add(frame);
+        drain();
+    }
+
+    // whoever wins the flag sends the next frame; the completion handler hands it back
+    private void drain() {
+        while (!closed && !queue.isEmpty() && sending.compareAndSet(false, true)) {
+            String next = queue.poll();
+            if (next == null) {
+                sending.set(false);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                session.getAsyncRemote().sendText(next, result -> {
+                    sending.set(false);
+                    if (result.isOK()) {
+                        drain();
+                    } else {
+                        close(new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, "Send failed"));
+                    }
+                });
+            } catch (RuntimeException e) {
+                sending.set(false);
+                close(new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, "Send failed"));
+            }
+            return;
+        }
+    }
+
+    void close(CloseReason reason) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        try {
+            if (session.isOpen()) {
+                session.close(reason);
+            }
+        } catch (IOException e) {
+            log.debug("Closing socket {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+}
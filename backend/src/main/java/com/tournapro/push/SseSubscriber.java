@@ -0,0 +1,117 @@
+package com.tournapro.push;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One Server-Sent Events connection. The request is async, so an idle spectator holds no thread;
+ * frames are queued and written by a shared writer pool, at most one drain per connection at a
+ * time. A client more than {@code maxBacklog} events behind is dropped and resumes with
+ * Last-Event-ID.
+ */
+final class SseSubscriber implements FrameSink {
+
+    private final SseEmitter emitter;
+    private final Executor writer;
+    private final int maxBacklog;
+    private final Set<Long> tournaments = ConcurrentHashMap.newKeySet();
+    private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    SseSubscriber(SseEmitter emitter, Executor writer, int maxBacklog) {
+        this.emitter = emitter;
+        this.writer = writer;
+        this.maxBacklog = maxBacklog;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    @Override
+    public Set<Long> tournaments() {
+        return tournaments;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void send(long id, String frame) {
+        enqueue(SseEmitter.event().id(Long.toString(id)).data(frame));
+    }
+
+    @Override
+    public void heartbeat() {
+        enqueue(SseEmitter.event().comment("ping"));
+    }
+
+    /** Tells the client its position is lost and it should reload before listening again. */
+    void reset(long id) {
+        enqueue(SseEmitter.event().id(Long.toString(id)).name("reset").data("{}"));
+    }
+
+    /** First event of a fresh connection, so the client has an id to resume from. */
+    void ready(long id) {
+        enqueue(SseEmitter.event().id(Long.toString(id)).name("ready").data("{}"));
+    }
+
+    private void enqueue(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxBacklog) {
+            close();
+            return;
+        }
+        queue.add(event);
+        drain();
+    }
+
+    private void drain() {
+        if (closed || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while (!closed && (next = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(next);
+                }
+            } catch (Exception e) {
+                // the client went away; the emitter callbacks unsubscribe it
+                closed = true;
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            drain();
+        });
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        emitter.complete();
+    }
+
+    void markClosed() {
+        closed = true;
+        queue.clear();
+    }
+}
@@ -0,0 +1,296 @@
+package com.tournapro.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournapro.config.WorkerThreads;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.TournamentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Fans committed {@link TournamentChangeEvent}s out to the WebSocket and SSE connections
+ * subscribed to each tournament.
+ *
+ * Events are not sent as they arrive. They collect per tournament, where a newer event for the
+ * same entity replaces an older one, and every flush interval each tournament with pending events
+ * gets one frame: serialized once, then handed to every subscriber. A burst of results therefore
+ * costs one serialization per tournament per interval, however many spectators are watching.
+ *
+ * Frames get increasing ids and the last few per tournament are kept in a {@link FrameBuffer}, so
+ * an SSE client reconnecting with Last-Event-ID gets what it missed. Ids start from the clock, so
+ * ids from before a restart are recognised as too old and the client is told to reload.
+ */
+@Component
+public class TournamentBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final TournamentRepository tournamentRepository;
+    private final int maxBacklog;
+    private final int replayFrames;
+    private final int maxReplayTournaments;
+    private final long sseTimeoutMs;
+    private final ConcurrentHashMap<Long, Set<FrameSink>> topics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Map<String, TournamentChangeEvent>> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, FrameBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService sseWriter;
+
+    public TournamentBroadcaster(ObjectMapper objectMapper,
+                                 TournamentRepository tournamentRepository,
+                                 @Value("${push.flush-interval-ms:200}") long flushIntervalMs,
+                                 @Value("${push.heartbeat-ms:20000}") long heartbeatMs,
+                                 @Value("${push.max-backlog:32}") int maxBacklog,
+                                 @Value("${push.replay-frames:128}") int replayFrames,
+                                 @Value("${push.max-replay-tournaments:500}") int maxReplayTournaments,
+                                 @Value("${push.sse.timeout-ms:1800000}") long sseTimeoutMs,
+                                 @Value("${push.sse.writer-threads:4}") int sseWriterThreads,
+                                 WorkerThreads workerThreads) {
+        this.objectMapper = objectMapper;
+        this.tournamentRepository = tournamentRepository;
+        this.maxBacklog = maxBacklog;
+        this.replayFrames = replayFrames;
+        this.maxReplayTournaments = maxReplayTournaments;
+        this.sseTimeoutMs = sseTimeoutMs;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "push-broadcast");
+            t.setDaemon(true);
+            return t;
+        });
+        // a slow client blocks its own writer; in virtual-thread mode that no longer holds up a shared pool
+        this.sseWriter = workerThreads.blockingExecutor("push-sse-writer", sseWriterThreads);
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        sseWriter.shutdownNow();
+    }
+
+    // after commit; events published outside a transaction are delivered at once
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(TournamentChangeEvent event) {
+        // only tournaments that are or were recently watched
+        if (!buffers.containsKey(event.getTournamentId()) && !topics.containsKey(event.getTournamentId())) {
+            return;
+        }
+        // compute holds the entry while it runs, so a concurrent flush takes the map before or after
+        pending.compute(event.getTournamentId(), (id, events) -> {
+            Map<String, TournamentChangeEvent> m = events != null ? events : new LinkedHashMap<>();
+            m.remove(event.coalesceKey());
+            m.put(event.coalesceKey(), event);
+            return m;
+        });
+    }
+
+    /**
+     * Opens an SSE stream of a tournament's frames. With {@code lastEventId} the frames after it
+     * are replayed first, or a {@code reset} event is sent when they are no longer buffered.
+     */
+    public SseEmitter openEventStream(Long tournamentId, Long lastEventId) {
+        if (!isWatchable(tournamentId)) {
+            throw new NoSuchElementException("Tournament not found: " + tournamentId);
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        // room for a full replay on top of the usual backlog
+        SseSubscriber subscriber = new SseSubscriber(emitter, sseWriter, maxBacklog + replayFrames);
+        Runnable release = () -> {
+            subscriber.markClosed();
+            unsubscribeAll(subscriber);
+        };
+        emitter.onCompletion(release);
+        emitter.onTimeout(release);
+        emitter.onError(e -> release.run());
+
+        FrameBuffer buffer = buffer(tournamentId);
+        // replay and subscribe under the buffer lock so no frame is missed or sent twice
+        synchronized (buffer) {
+            long latest = sequence.get();
+            if (lastEventId == null) {
+                subscriber.ready(latest);
+            } else {
+                List<FrameBuffer.Frame> missed = buffer.since(lastEventId, latest);
+                if (missed == null) {
+                    subscriber.reset(latest);
+                } else {
+                    for (FrameBuffer.Frame f : missed) {
+                        subscriber.send(f.id, f.data);
+                    }
+                }
+            }
+            addSubscriber(subscriber, tournamentId);
+        }
+        return emitter;
+    }
+
+    int maxBacklog() {
+        return maxBacklog;
+    }
+
+    // false when the tournament may not be watched
+    boolean subscribe(FrameSink subscriber, Long tournamentId) {
+        if (!isWatchable(tournamentId)) {
+            return false;
+        }
+        FrameBuffer buffer = buffer(tournamentId);
+        synchronized (buffer) {
+            addSubscriber(subscriber, tournamentId);
+        }
+        return true;
+    }
+
+    /**
+     * Feeds carry only the spectator views that /api/public serves (no contact, payment or
+     * date-of-birth fields), so the rule is the public API's: every existing tournament is public.
+     */
+    private boolean isWatchable(Long tournamentId) {
+        return tournamentRepository.existsById(tournamentId);
+    }
+
+    void unsubscribe(FrameSink subscriber, Long tournamentId) {
+        topics.computeIfPresent(tournamentId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriber.tournaments().remove(tournamentId);
+    }
+
+    void unsubscribeAll(FrameSink subscriber) {
+        for (Long tournamentId : new ArrayList<>(subscriber.tournaments())) {
+            unsubscribe(subscriber, tournamentId);
+        }
+    }
+
+    public int subscriberCount(Long tournamentId) {
+        Set<FrameSink> s = topics.get(tournamentId);
+        return s != null ? s.size() : 0;
+    }
+
+    private void addSubscriber(FrameSink subscriber, Long tournamentId) {
+        topics.compute(tournamentId, (id, subscribers) -> {
+            Set<FrameSink> s = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            s.add(subscriber);
+            return s;
+        });
+        subscriber.tournaments().add(tournamentId);
+    }
+
+    private FrameBuffer buffer(Long tournamentId) {
+        return buffers.computeIfAbsent(tournamentId, id -> new FrameBuffer(replayFrames, sequence.get()));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+            trimBuffers();
+        } catch (RuntimeException e) {
+            log.warn("Push broadcast failed", e);
+        }
+    }
+
+    void flush() {
+        for (Long tournamentId : pending.keySet()) {
+            Map<String, TournamentChangeEvent> events = pending.remove(tournamentId);
+            FrameBuffer buffer = topics.containsKey(tournamentId) ? buffer(tournamentId) : buffers.get(tournamentId);
+            if (events == null || events.isEmpty() || buffer == null) {
+                continue;
+            }
+            String frame = frame(tournamentId, events.values());
+            if (frame == null) {
+                continue;
+            }
+            synchronized (buffer) {
+                long id = sequence.incrementAndGet();
+                buffer.add(id, frame);
+                Set<FrameSink> subscribers = topics.get(tournamentId);
+                if (subscribers == null) {
+                    continue;
+                }
+                for (FrameSink s : subscribers) {
+                    if (s.isClosed()) {
+                        unsubscribeAll(s);
+                    } else {
+                        s.send(id, frame);
+                    }
+                }
+            }
+        }
+    }
+
+    private void heartbeat() {
+        try {
+            for (Set<FrameSink> subscribers : topics.values()) {
+                for (FrameSink s : subscribers) {
+                    s.heartbeat();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Push heartbeat failed", e);
+        }
+    }
+
+    // replay buffers of tournaments nobody watches any more go once there are too many
+    private void trimBuffers() {
+        if (buffers.size() <= maxReplayTournaments) {
+            return;
+        }
+        for (Long tournamentId : buffers.keySet()) {
+            if (!topics.containsKey(tournamentId)) {
+                buffers.remove(tournamentId);
+            }
+        }
+    }
+
+    // {"type":"BATCH","tournamentId":1,"events":[{"type":"MATCH_UPDATE","payload":{...}}, ...]}
+    private String frame(Long tournamentId, Collection<TournamentChangeEvent> events) {
+        List<Map<String, Object>> list = new ArrayList<>(events.size());
+        for (TournamentChangeEvent e : events) {
+            // suppliers give the state at send time, e.g. the latest standings snapshot
+            Object payload = e.getPayload() instanceof Supplier<?> s ? s.get() : e.getPayload();
+            if (payload == null) {
+                continue;
+            }
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("type", e.getType());
+            m.put("payload", payload);
+            list.add(m);
+        }
+        if (list.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("type", "BATCH");
+        frame.put("tournamentId", tournamentId);
+        frame.put("events", list);
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize broadcast for tournament " + tournamentId, e);
+        }
+    }
+}
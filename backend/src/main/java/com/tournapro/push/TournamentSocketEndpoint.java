@@ -0,0 +1,132 @@
+package com.tournapro.push;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The {@code /ws} endpoint; one shared instance serves every connection.
+ *
+ * The handshake is an ordinary request through the security filter chain, authenticated from
+ * the {@code token} query parameter, so only signed-in users get this far. A client picks
+ * tournaments with {@code ?tournamentId=} on connect or with
+ * {@code {"type":"SUBSCRIBE","tournamentId":1}} / {@code UNSUBSCRIBE} messages, and then receives
+ * {@code BATCH} frames from {@link TournamentBroadcaster}. Subscriptions to tournaments that may
+ * not be watched are ignored.
+ */
+@Component
+public class TournamentSocketEndpoint extends Endpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentSocketEndpoint.class);
+
+    private static final String SUBSCRIBER = "subscriber";
+    private static final int MAX_SUBSCRIPTIONS = 20;
+    private static final int MAX_MESSAGE_CHARS = 1024;
+    private static final long SEND_TIMEOUT_MS = 10_000;
+
+    private final TournamentBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+
+    public TournamentSocketEndpoint(TournamentBroadcaster broadcaster, ObjectMapper objectMapper) {
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        // the filter chain already refused anonymous handshakes; this only guards misconfiguration
+        if (session.getUserPrincipal() == null) {
+            close(session, new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "Authentication required"));
+            return;
+        }
+        session.setMaxTextMessageBufferSize(MAX_MESSAGE_CHARS);
+        session.getAsyncRemote().setSendTimeout(SEND_TIMEOUT_MS);
+
+        SocketSubscriber subscriber = new SocketSubscriber(session, broadcaster.maxBacklog());
+        session.getUserProperties().put(SUBSCRIBER, subscriber);
+
+        List<String> initial = session.getRequestParameterMap().get("tournamentId");
+        if (initial != null) {
+            for (String id : initial) {
+                subscribe(subscriber, parseId(id));
+            }
+        }
+        session.addMessageHandler(String.class, text -> onMessage(subscriber, text));
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        release(session);
+    }
+
+    @Override
+    public void onError(Session session, Throwable error) {
+        log.debug("WebSocket {} failed: {}", session.getId(), error.getMessage());
+        release(session);
+    }
+
+    private void onMessage(SocketSubscriber subscriber, String text) {
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(text);
+        } catch (IOException e) {
+            return;
+        }
+        Long tournamentId = message.path("tournamentId").canConvertToLong()
+                ? message.path("tournamentId").asLong()
+                : null;
+        switch (message.path("type").asText()) {
+            case "SUBSCRIBE" -> subscribe(subscriber, tournamentId);
+            case "UNSUBSCRIBE" -> {
+                if (tournamentId != null) {
+                    broadcaster.unsubscribe(subscriber, tournamentId);
+                }
+            }
+            default -> {
+                // unknown messages are ignored
+            }
+        }
+    }
+
+    private void subscribe(SocketSubscriber subscriber, Long tournamentId) {
+        if (tournamentId == null || subscriber.tournaments().size() >= MAX_SUBSCRIPTIONS) {
+            return;
+        }
+        if (!broadcaster.subscribe(subscriber, tournamentId)) {
+            log.debug("Refused subscription to tournament {}", tournamentId);
+        }
+    }
+
+    private void release(Session session) {
+        Object subscriber = session.getUserProperties().remove(SUBSCRIBER);
+        if (subscriber instanceof SocketSubscriber s) {
+            s.close(new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, null));
+            broadcaster.unsubscribeAll(s);
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void close(Session session, CloseReason reason) {
+        try {
+            session.close(reason);
+        } catch (IOException e) {
+            log.debug("Closing socket {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+}
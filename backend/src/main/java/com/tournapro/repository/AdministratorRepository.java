@@ -2,8 +2,13 @@ package com.tournapro.repository;
 
 import com.tournapro.entity.Administrator;
 import com.tournapro.entity.Tournament;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +17,22 @@ public interface AdministratorRepository extends JpaRepository<Administrator, Lo
     List<Administrator> findByTournamentOrderByCreatedAtDesc(Tournament tournament);
 
     Optional<Administrator> findByTournamentAndEmailIgnoreCase(Tournament tournament, String email);
-}
 
+    boolean existsByTournamentAndEmailIgnoreCase(Tournament tournament, String email);
+
+    // offset paging (sort comes from the Pageable)
+    Page<Administrator> findByTournament(Tournament tournament, Pageable pageable);
+
+    long countByTournament(Tournament tournament);
+
+    // keyset paging on (createdAt desc, id desc), newest first like the plain listing
+    List<Administrator> findByTournamentOrderByCreatedAtDescIdDesc(Tournament tournament, Pageable limit);
+
+    @Query("select a from Administrator a where a.tournament = :tournament " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Administrator> findPageAfter(@Param("tournament") Tournament tournament,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable limit);
+}
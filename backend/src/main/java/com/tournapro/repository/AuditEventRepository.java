@@ -0,0 +1,24 @@
+package com.tournapro.repository;
+
+import com.tournapro.entity.AuditEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+
+    // keyset paging on (occurredAt, id), newest first: pooled ids are not in event order
+    List<AuditEvent> findByTournamentIdOrderByOccurredAtDescIdDesc(Long tournamentId, Pageable limit);
+
+    @Query("select e from AuditEvent e where e.tournamentId = :tournamentId " +
+            "and (e.occurredAt < :occurredAt or (e.occurredAt = :occurredAt and e.id < :id)) " +
+            "order by e.occurredAt desc, e.id desc")
+    List<AuditEvent> findPageBefore(@Param("tournamentId") Long tournamentId,
+                                    @Param("occurredAt") LocalDateTime occurredAt,
+                                    @Param("id") Long id,
+                                    Pageable limit);
+}
@@ -0,0 +1,22 @@
+package com.tournapro.repository;
+
+import com.tournapro.entity.AuditOutboxEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface AuditOutboxRepository extends JpaRepository<AuditOutboxEntry, Long> {
+
+    // oldest entries first, locked; a lock timeout of -2 is SKIP LOCKED, so several instances can
+    // drain the outbox at once without waiting on or copying each other's rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from AuditOutboxEntry e order by e.id asc")
+    List<AuditOutboxEntry> findBatchForDispatch(Pageable limit);
+}
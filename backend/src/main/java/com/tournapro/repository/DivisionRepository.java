@@ -0,0 +1,25 @@
+package com.tournapro.repository;
+
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Tournament;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DivisionRepository extends JpaRepository<Division, Long> {
+
+    @EntityGraph(attributePaths = "teams")
+    List<Division> findByTournamentOrderByNameAscIdAsc(Tournament tournament);
+
+    @EntityGraph(attributePaths = "teams")
+    Optional<Division> findByIdAndTournament(Long id, Tournament tournament);
+
+    // (division id, tournament id) of every division, to route division ids without loading them
+    @Query("select d.id, d.tournament.id from Division d")
+    List<Object[]> findAllTournamentIds();
+
+    boolean existsByIdAndTournament(Long id, Tournament tournament);
+}
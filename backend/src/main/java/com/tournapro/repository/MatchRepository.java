@@ -0,0 +1,53 @@
+package com.tournapro.repository;
+
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Tournament;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MatchRepository extends JpaRepository<Match, Long> {
+
+    // teams and referee fetched in the same query; listings show their names for every fixture
+    @Query("select m from Match m left join fetch m.homeTeam left join fetch m.awayTeam left join fetch m.referee " +
+            "where m.division = :division order by m.round asc, m.groupLabel asc, m.id asc")
+    List<Match> findByDivisionWithTeams(@Param("division") Division division);
+
+    // every division's matches in one query, each division in the order above
+    @Query("select m from Match m left join fetch m.homeTeam left join fetch m.awayTeam left join fetch m.referee " +
+            "where m.tournament = :tournament order by m.division.id asc, m.round asc, m.groupLabel asc, m.id asc")
+    List<Match> findByTournamentWithTeams(@Param("tournament") Tournament tournament);
+
+    @Query("select m from Match m left join fetch m.homeTeam left join fetch m.awayTeam left join fetch m.referee " +
+            "where m.id = :id and m.tournament = :tournament")
+    Optional<Match> findByIdAndTournament(@Param("id") Long id, @Param("tournament") Tournament tournament);
+
+    // slot scheduling input: unplayed matches, in a stable order (teams fetched for the change events)
+    @Query("select m from Match m left join fetch m.homeTeam left join fetch m.awayTeam " +
+            "where m.tournament = :tournament and m.status = :status " +
+            "order by m.division.id asc, m.round asc, m.id asc")
+    List<Match> findForScheduling(@Param("tournament") Tournament tournament, @Param("status") Match.Status status);
+
+    // the whole bracket in one query, in node order
+    @Query("select m from Match m left join fetch m.homeTeam left join fetch m.awayTeam left join fetch m.referee " +
+            "where m.division = :division and m.bracketSlot is not null order by m.bracketSlot asc")
+    List<Match> findBracket(@Param("division") Division division);
+
+    Optional<Match> findByDivisionAndBracketSlot(Division division, Integer bracketSlot);
+
+    long countByDivision(Division division);
+
+    // regeneration replaces the whole schedule in one statement
+    @Modifying
+    @Query("delete from Match m where m.division = :division")
+    int deleteByDivision(@Param("division") Division division);
+
+    @Modifying
+    @Query("delete from Match m where m.division = :division and m.bracketSlot is not null")
+    int deleteBracket(@Param("division") Division division);
+}
@@ -2,12 +2,48 @@ package com.tournapro.repository;
 
 import com.tournapro.entity.Player;
 import com.tournapro.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     List<Player> findByTeamOrderByNameAsc(Team team);
-}
 
+    // offset paging (sort comes from the Pageable)
+    Page<Player> findByTeam(Team team, Pageable pageable);
+
+    long countByTeam(Team team);
+
+    // keyset paging on (name, id)
+    List<Player> findByTeamOrderByNameAscIdAsc(Team team, Pageable limit);
+
+    @Query("select p from Player p where p.team = :team " +
+            "and (p.name > :name or (p.name = :name and p.id > :id)) " +
+            "order by p.name asc, p.id asc")
+    List<Player> findPageAfter(@Param("team") Team team,
+                               @Param("name") String name,
+                               @Param("id") Long id,
+                               Pageable limit);
+
+    // roster: every player of a tournament in one query; callers group by team id (no team join needed)
+    @Query("select p from Player p where p.team.tournament.id = :tournamentId order by p.name asc, p.id asc")
+    List<Player> findByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // export: every player of a tournament, grouped by team, with the team fetched in the same row
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Player p join fetch p.team t where t.tournament.id = :tournamentId " +
+            "order by t.name asc, t.id asc, p.name asc, p.id asc")
+    Stream<Player> streamByTournamentId(@Param("tournamentId") Long tournamentId);
+}
@@ -2,12 +2,44 @@ package com.tournapro.repository;
 
 import com.tournapro.entity.Referee;
 import com.tournapro.entity.Tournament;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface RefereeRepository extends JpaRepository<Referee, Long> {
 
     List<Referee> findByTournamentOrderByNameAsc(Tournament tournament);
-}
 
+    boolean existsByTournamentAndEmailIgnoreCase(Tournament tournament, String email);
+
+    // offset paging (sort comes from the Pageable)
+    Page<Referee> findByTournament(Tournament tournament, Pageable pageable);
+
+    long countByTournament(Tournament tournament);
+
+    // keyset paging on (name, id)
+    List<Referee> findByTournamentOrderByNameAscIdAsc(Tournament tournament, Pageable limit);
+
+    @Query("select r from Referee r where r.tournament = :tournament " +
+            "and (r.name > :name or (r.name = :name and r.id > :id)) " +
+            "order by r.name asc, r.id asc")
+    List<Referee> findPageAfter(@Param("tournament") Tournament tournament,
+                                @Param("name") String name,
+                                @Param("id") Long id,
+                                Pageable limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Referee r where r.tournament.id = :tournamentId order by r.name asc, r.id asc")
+    Stream<Referee> streamByTournamentId(@Param("tournamentId") Long tournamentId);
+}
@@ -2,11 +2,43 @@ package com.tournapro.repository;
 
 import com.tournapro.entity.Team;
 import com.tournapro.entity.Tournament;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
     List<Team> findByTournamentOrderByNameAsc(Tournament tournament);
+
+    // offset paging (sort comes from the Pageable)
+    Page<Team> findByTournament(Tournament tournament, Pageable pageable);
+
+    long countByTournament(Tournament tournament);
+
+    // keyset paging on (name, id): first page, then every page after a cursor
+    List<Team> findByTournamentOrderByNameAscIdAsc(Tournament tournament, Pageable limit);
+
+    @Query("select t from Team t where t.tournament = :tournament " +
+            "and (t.name > :name or (t.name = :name and t.id > :id)) " +
+            "order by t.name asc, t.id asc")
+    List<Team> findPageAfter(@Param("tournament") Tournament tournament,
+                             @Param("name") String name,
+                             @Param("id") Long id,
+                             Pageable limit);
+
+    // export: streamed with a JDBC fetch size so rows are not all materialized (needs an open transaction)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Team t where t.tournament.id = :tournamentId order by t.name asc, t.id asc")
+    Stream<Team> streamByTournamentId(@Param("tournamentId") Long tournamentId);
 }
@@ -2,7 +2,13 @@ package com.tournapro.repository;
 
 import com.tournapro.entity.Tournament;
 import com.tournapro.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +18,19 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     // all tournaments for a given owner, newest first
     List<Tournament> findByOwnerOrderByCreatedAtDesc(User owner);
 
+    // public listing, soonest start first
+    List<Tournament> findAllByOrderByStartDateAscIdAsc();
+
     // Used to make sure users only touch their own tournaments
     Optional<Tournament> findByIdAndOwner(Long id, User owner);
+
+    // data version of an owned tournament, by primary key and without loading the entity
+    @Query("select t.dataVersion from Tournament t where t.id = :id and t.owner.id = :ownerId")
+    Optional<Long> findDataVersion(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    // native, with a query space of its own: an HQL update would evict every cached tournament
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournament_data_version"))
+    @Query(value = "update tournaments set data_version = data_version + 1 where id = :id", nativeQuery = true)
+    int bumpDataVersion(@Param("id") Long id);
 }
@@ -1,5 +1,8 @@
 package com.tournapro.security;
 
+import com.tournapro.config.WebSocketConfig;
+import com.tournapro.metrics.MetricsRegistry;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,26 +24,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache tokenCache;
+    private final MetricsRegistry metrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        final String authHeader = request.getHeader("Authorization");
+        final String jwt = bearerToken(request);
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (jwt == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            final String jwt = authHeader.substring(7);
-            final String username = jwtUtil.extractUsername(jwt);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = resolvePrincipal(jwt);
 
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -56,4 +59,59 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // browsers cannot set headers on a WebSocket handshake, so /ws takes the token as a query parameter
+    private static String bearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if (WebSocketConfig.PATH.equals(request.getServletPath())) {
+            String token = request.getParameter("token");
+            return token != null && !token.isBlank() ? token : null;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the principal for a token: from the cache when it was verified recently, otherwise by
+     * verifying it once (signature + expiry) and loading the user.
+     */
+    private UserDetails resolvePrincipal(String jwt) {
+        long start = System.nanoTime();
+        String result = "invalid";
+        try {
+            UserDetails cached = tokenCache.get(jwt);
+            if (cached != null) {
+                result = "cached";
+                return cached;
+            }
+            UserDetails verified = verify(jwt);
+            if (verified != null) {
+                result = "verified";
+            }
+            return verified;
+        } finally {
+            metrics.timer("tournapro_jwt_verify_seconds", "Time to resolve the principal of a bearer token",
+                            "result", result)
+                    .record(System.nanoTime() - start);
+        }
+    }
+
+    private UserDetails verify(String jwt) {
+        // throws on a bad signature or an expired token
+        Claims claims = jwtUtil.parseClaims(jwt);
+        String username = claims.getSubject();
+        if (username == null) {
+            return null;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!username.equals(userDetails.getUsername()) || !userDetails.isEnabled()) {
+            return null;
+        }
+
+        tokenCache.put(jwt, userDetails, claims.getExpiration());
+        return userDetails;
+    }
 }
@@ -0,0 +1,44 @@
+package com.tournapro.security;
+
+import com.tournapro.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on {@link User} that evicts the user's verified tokens whenever the row changes,
+ * so disabling an account or changing its role takes effect on the next request.
+ * Hibernate resolves this listener through Spring, which is how the cache gets injected.
+ *
+ * The listener fires at flush, before commit: a request verifying a token in between would load
+ * and cache the old row again. Inside a transaction the eviction therefore runs after commit, and
+ * not at all on rollback, when the cached principal is still right.
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final VerifiedTokenCache tokenCache;
+
+    public UserCacheInvalidationListener(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Long userId = user.getId();
+        String email = user.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenCache.invalidateUser(userId, email);
+                }
+            });
+        } else {
+            tokenCache.invalidateUser(userId, email);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.tournapro.security;
+
+import com.tournapro.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of tokens that already passed signature verification, keyed by the SHA-256 of the
+ * token so raw tokens are never held in memory.
+ *
+ * An entry lives until the token expires or the configured TTL elapses, whichever comes first.
+ * The TTL bounds how long a change made on another node can go unnoticed; changes made on this
+ * node evict the user's entries as soon as they commit (see {@link UserCacheInvalidationListener}).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries,
+                              @Value("${jwt.cache.ttl:300000}") long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Returns the principal for a previously verified token, or null when unknown or expired.
+     */
+    public UserDetails get(String token) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    public void put(String token, UserDetails principal, Date tokenExpiration) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> e.expiresAt <= now);
+            if (entries.size() >= maxEntries) {
+                // still full of live tokens: skip caching rather than grow without bound
+                return;
+            }
+        }
+        entries.put(hash(token), new Entry(principal, expiresAt));
+    }
+
+    /**
+     * Drops every cached token of the given user, e.g. after they were disabled or their role changed.
+     * Entries are matched by user id as well as by name, so tokens cached under an email the user
+     * has since changed are dropped too.
+     */
+    public void invalidateUser(Long userId, String username) {
+        entries.values().removeIf(e -> (username != null && username.equals(e.principal.getUsername()))
+                || (userId != null && e.principal instanceof User u && userId.equals(u.getId())));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final UserDetails principal;
+        private final long expiresAt;
+
+        private Entry(UserDetails principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,17 +2,20 @@ package com.tournapro.service;
 
 import com.tournapro.dto.AdministratorResponse;
 import com.tournapro.dto.CreateAdministratorRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.entity.Administrator;
 import com.tournapro.entity.Tournament;
 import com.tournapro.entity.User;
 import com.tournapro.repository.AdministratorRepository;
-import com.tournapro.repository.TournamentRepository;
 import com.tournapro.repository.UserRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,33 +23,25 @@ import java.util.stream.Collectors;
 public class AdministratorService {
 
     private final AdministratorRepository adminRepo;
-    private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
+    private final TournamentAccessService accessService;
+    private final DataVersionService dataVersions;
+    private final AuditService audit;
 
     public AdministratorService(AdministratorRepository adminRepo,
-                                TournamentRepository tournamentRepository,
-                                UserRepository userRepository) {
+                                UserRepository userRepository,
+                                TournamentAccessService accessService,
+                                DataVersionService dataVersions,
+                                AuditService audit) {
         this.adminRepo = adminRepo;
-        this.tournamentRepository = tournamentRepository;
         this.userRepository = userRepository;
-    }
-
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        this.accessService = accessService;
+        this.dataVersions = dataVersions;
+        this.audit = audit;
     }
 
     private Tournament getOwnedTournament(Long tournamentId) {
-        Tournament t = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
-
-        User current = getCurrentUser();
-        if (!t.getOwner().getId().equals(current.getId())) {
-            throw new IllegalStateException("You do not own this tournament");
-        }
-        return t;
+        return accessService.getOwnedTournament(tournamentId);
     }
 
     @Transactional
@@ -68,7 +63,10 @@ public class AdministratorService {
         a.setRights(request.getRights());
 
         Administrator saved = adminRepo.save(a);
-        return toResponse(saved);
+        dataVersions.changed(tournamentId);
+        AdministratorResponse response = toResponse(saved);
+        audit.record(tournamentId, AuditService.ADMINISTRATOR, saved.getId(), AuditService.CREATE, response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -80,6 +78,47 @@ public class AdministratorService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public Page<AdministratorResponse> listAdministratorsPaged(Long tournamentId, int page, int size) {
+        Tournament t = getOwnedTournament(tournamentId);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), KeysetCursor.clampSize(size),
+                Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+        return adminRepo.findByTournament(t, pageable).map(this::toResponse);
+    }
+
+    // keyset listing, newest first; the cursor key is the createdAt timestamp of the last row
+    @Transactional(readOnly = true)
+    public CursorPage<AdministratorResponse> listAdministratorsAfter(Long tournamentId, String cursor, int size, boolean includeTotal) {
+        Tournament t = getOwnedTournament(tournamentId);
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+        List<Administrator> rows;
+        if (after == null) {
+            rows = adminRepo.findByTournamentOrderByCreatedAtDescIdDesc(t, fetch);
+        } else {
+            LocalDateTime createdAt;
+            try {
+                createdAt = LocalDateTime.parse(after.getKey());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            rows = adminRepo.findPageAfter(t, createdAt, after.getId(), fetch);
+        }
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Administrator last = rows.get(limit - 1);
+            next = KeysetCursor.encode(last.getCreatedAt().toString(), last.getId());
+        }
+
+        Long total = includeTotal ? adminRepo.countByTournament(t) : null;
+        List<AdministratorResponse> content = rows.stream().map(this::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(content, next, total);
+    }
+
     @Transactional
     public void removeAdministrator(Long tournamentId, Long adminId) {
         Tournament t = getOwnedTournament(tournamentId);
@@ -88,7 +127,9 @@ public class AdministratorService {
         if (!a.getTournament().getId().equals(t.getId())) {
             throw new IllegalStateException("Administrator not part of this tournament");
         }
+        audit.record(tournamentId, AuditService.ADMINISTRATOR, adminId, AuditService.DELETE, toResponse(a));
         adminRepo.delete(a);
+        dataVersions.changed(tournamentId);
     }
 
     private AdministratorResponse toResponse(Administrator a) {
@@ -0,0 +1,101 @@
+package com.tournapro.service;
+
+import com.tournapro.entity.AuditEvent;
+import com.tournapro.entity.AuditOutboxEntry;
+import com.tournapro.metrics.MetricsRegistry;
+import com.tournapro.repository.AuditEventRepository;
+import com.tournapro.repository.AuditOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Moves audit entries from the outbox to the audit log on a background thread, every
+ * {@code audit.dispatch.interval-ms}, in batches of {@code audit.dispatch.batch-size}. Each
+ * batch is copied and deleted in one transaction, so an entry is moved exactly once; entries
+ * left behind at shutdown are moved after the next start.
+ */
+@Component
+public class AuditDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditDispatcher.class);
+
+    private final AuditOutboxRepository outboxRepository;
+    private final AuditEventRepository eventRepository;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final long intervalMs;
+    private final MetricsRegistry.Counter dispatched;
+    private final ScheduledExecutorService dispatcher;
+
+    public AuditDispatcher(AuditOutboxRepository outboxRepository,
+                           AuditEventRepository eventRepository,
+                           PlatformTransactionManager transactionManager,
+                           MetricsRegistry metrics,
+                           @Value("${audit.dispatch.batch-size:500}") int batchSize,
+                           @Value("${audit.dispatch.interval-ms:1000}") long intervalMs) {
+        this.outboxRepository = outboxRepository;
+        this.eventRepository = eventRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.intervalMs = intervalMs;
+        this.dispatched = metrics.counter("tournapro_audit_events_dispatched",
+                "Audit entries moved from the outbox to the audit log");
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "audit-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // after Flyway has created the tables
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        dispatcher.scheduleWithFixedDelay(this::drain, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void drain() {
+        try {
+            int moved;
+            do {
+                moved = dispatchBatch();
+                // a full batch means there may be more
+            } while (moved == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            log.warn("Audit dispatch failed, retrying in {} ms", intervalMs, e);
+        }
+    }
+
+    /** Moves up to one batch of the oldest entries and returns how many there were. */
+    int dispatchBatch() {
+        Integer moved = tx.execute(status -> {
+            List<AuditOutboxEntry> batch = outboxRepository.findBatchForDispatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            eventRepository.saveAll(batch.stream().map(AuditEvent::new).collect(Collectors.toList()));
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(AuditOutboxEntry::getId).collect(Collectors.toList()));
+            return batch.size();
+        });
+        dispatched.increment(moved);
+        return moved;
+    }
+}
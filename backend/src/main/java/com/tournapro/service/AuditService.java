@@ -0,0 +1,131 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournapro.dto.AuditEventResponse;
+import com.tournapro.dto.CursorPage;
+import com.tournapro.entity.AuditEvent;
+import com.tournapro.entity.AuditOutboxEntry;
+import com.tournapro.entity.User;
+import com.tournapro.repository.AuditEventRepository;
+import com.tournapro.repository.AuditOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Audit trail of organizer changes. {@link #record} adds an outbox row to the changing
+ * transaction, so an entry exists exactly when the change committed and costs one batched insert
+ * instead of a separate write; {@link AuditDispatcher} later moves the rows to the audit log.
+ */
+@Service
+public class AuditService {
+
+    public static final String TEAM = "TEAM";
+    public static final String PLAYER = "PLAYER";
+    public static final String REFEREE = "REFEREE";
+    public static final String ADMINISTRATOR = "ADMINISTRATOR";
+
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    private final AuditOutboxRepository outboxRepository;
+    private final AuditEventRepository eventRepository;
+    private final TournamentAccessService accessService;
+    private final ObjectMapper objectMapper;
+
+    public AuditService(AuditOutboxRepository outboxRepository,
+                        AuditEventRepository eventRepository,
+                        TournamentAccessService accessService,
+                        ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.eventRepository = eventRepository;
+        this.accessService = accessService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records that the current user applied {@code action} to an entity of the tournament.
+     * {@code state} is the entity's response DTO after the change, or before it for a delete.
+     * A bulk change is one entry with a null {@code entityId} and the list of DTOs as state.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long tournamentId, String entityType, Long entityId, String action, Object state) {
+        record(accessService.getCurrentUser(), tournamentId, entityType, entityId, action, state);
+    }
+
+    // for background work such as the roster import, which has no logged-in user on its thread
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User actor, Long tournamentId, String entityType, Long entityId, String action, Object state) {
+        AuditOutboxEntry e = new AuditOutboxEntry();
+        e.setTournamentId(tournamentId);
+        e.setActorId(actor.getId());
+        e.setActorEmail(actor.getEmail());
+        e.setEntityType(entityType);
+        e.setEntityId(entityId);
+        e.setAction(action);
+        e.setPayload(json(state));
+        outboxRepository.save(e);
+    }
+
+    // keyset listing, newest first; changes show up once the dispatcher has moved them
+    @Transactional(readOnly = true)
+    public CursorPage<AuditEventResponse> listEvents(Long tournamentId, String cursor, int size) {
+        accessService.getOwnedTournament(tournamentId);
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+        List<AuditEvent> rows = after == null
+                ? eventRepository.findByTournamentIdOrderByOccurredAtDescIdDesc(tournamentId, fetch)
+                : eventRepository.findPageBefore(tournamentId, occurredAt(after), after.getId(), fetch);
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            AuditEvent last = rows.get(limit - 1);
+            next = KeysetCursor.encode(last.getOccurredAt().toString(), last.getId());
+        }
+
+        List<AuditEventResponse> content = rows.stream().map(AuditService::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(content, next, null);
+    }
+
+    private static LocalDateTime occurredAt(KeysetCursor cursor) {
+        try {
+            return LocalDateTime.parse(cursor.getKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private String json(Object state) {
+        if (state == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize audit payload", e);
+        }
+    }
+
+    private static AuditEventResponse toResponse(AuditEvent e) {
+        return new AuditEventResponse(
+                e.getId(),
+                e.getEntityType(),
+                e.getEntityId(),
+                e.getAction(),
+                e.getActorEmail(),
+                e.getOccurredAt(),
+                e.getPayload()
+        );
+    }
+}
@@ -0,0 +1,268 @@
+package com.tournapro.service;
+
+import java.util.Arrays;
+
+/**
+ * Topology of single- and double-elimination brackets as flat arrays.
+ *
+ * A bracket for E entrants has size N, the next power of two. Nodes (matches) are numbered
+ * winners-bracket rounds first, then losers-bracket rounds, then the grand final, so every node's
+ * feeders have lower indices. For each node the arrays give where its winner and loser go (node
+ * and side, 0 = home, 1 = away) or {@link #NONE}. Seeds above E are byes. A side that can never be
+ * filled because of a bye is marked empty, and the node becomes a walkover for the other side (or
+ * dead when both are empty). That is all worked out here, so advancing a result only touches the
+ * nodes it feeds.
+ *
+ * Double elimination: the losers bracket alternates rounds that pair its own survivors with rounds
+ * that take the next winners-bracket round's losers, in alternating order to avoid early rematches.
+ * There is a single grand final without a reset match.
+ */
+public final class BracketEngine {
+
+    public static final int NONE = -1;
+
+    public static final byte WINNERS = 0;
+    public static final byte LOSERS = 1;
+    public static final byte GRAND_FINAL = 2;
+
+    private BracketEngine() {}
+
+    public static final class Bracket {
+
+        private final int size;
+        private final int entrants;
+        private final byte[] type;
+        private final int[] round;
+        private final int[] winTo;
+        private final int[] winSide;
+        private final int[] loseTo;
+        private final int[] loseSide;
+        private final int[] homeSeed;
+        private final int[] awaySeed;
+        private final boolean[] homeEmpty;
+        private final boolean[] awayEmpty;
+
+        private Bracket(int size, int entrants, int nodes) {
+            this.size = size;
+            this.entrants = entrants;
+            this.type = new byte[nodes];
+            this.round = new int[nodes];
+            this.winTo = filled(nodes);
+            this.winSide = new int[nodes];
+            this.loseTo = filled(nodes);
+            this.loseSide = new int[nodes];
+            this.homeSeed = new int[nodes];
+            this.awaySeed = new int[nodes];
+            this.homeEmpty = new boolean[nodes];
+            this.awayEmpty = new boolean[nodes];
+        }
+
+        private static int[] filled(int n) {
+            int[] a = new int[n];
+            Arrays.fill(a, NONE);
+            return a;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int entrants() {
+            return entrants;
+        }
+
+        public int nodeCount() {
+            return type.length;
+        }
+
+        public byte type(int node) {
+            return type[node];
+        }
+
+        /** 1-based round within the node's own bracket. */
+        public int round(int node) {
+            return round[node];
+        }
+
+        public int winTo(int node) {
+            return winTo[node];
+        }
+
+        public int winSide(int node) {
+            return winSide[node];
+        }
+
+        public int loseTo(int node) {
+            return loseTo[node];
+        }
+
+        public int loseSide(int node) {
+            return loseSide[node];
+        }
+
+        /** 1-based seed placed on the home side of a first-round node, 0 elsewhere. */
+        public int homeSeed(int node) {
+            return homeSeed[node];
+        }
+
+        public int awaySeed(int node) {
+            return awaySeed[node];
+        }
+
+        public boolean sideEmpty(int node, int side) {
+            return side == 0 ? homeEmpty[node] : awayEmpty[node];
+        }
+
+        /** Exactly one side can ever be filled: whoever arrives advances without playing. */
+        public boolean isWalkover(int node) {
+            return homeEmpty[node] != awayEmpty[node];
+        }
+
+        /** Neither side can ever be filled. */
+        public boolean isDead(int node) {
+            return homeEmpty[node] && awayEmpty[node];
+        }
+    }
+
+    public static Bracket build(int entrants, boolean doubleElimination) {
+        if (entrants < 2) {
+            throw new IllegalArgumentException("A bracket needs at least 2 entrants");
+        }
+        if (doubleElimination && entrants < 3) {
+            throw new IllegalArgumentException("Double elimination needs at least 3 entrants");
+        }
+        int size = Integer.highestOneBit(entrants);
+        if (size < entrants) {
+            size <<= 1;
+        }
+        int k = Integer.numberOfTrailingZeros(size);
+
+        int winnersNodes = size - 1;
+        int losersNodes = doubleElimination ? size - 2 : 0;
+        int nodes = winnersNodes + losersNodes + (doubleElimination ? 1 : 0);
+        Bracket b = new Bracket(size, entrants, nodes);
+
+        // first node index of each winners round (1..k) and losers round (1..2(k-1))
+        int[] wStart = new int[k + 2];
+        int idx = 0;
+        for (int r = 1; r <= k; r++) {
+            wStart[r] = idx;
+            for (int p = 0; p < size >> r; p++) {
+                b.type[idx] = WINNERS;
+                b.round[idx] = r;
+                idx++;
+            }
+        }
+        int lRounds = doubleElimination ? 2 * (k - 1) : 0;
+        int[] lStart = new int[lRounds + 2];
+        for (int r = 1; r <= lRounds; r++) {
+            lStart[r] = idx;
+            for (int p = 0; p < losersRoundSize(size, r); p++) {
+                b.type[idx] = LOSERS;
+                b.round[idx] = r;
+                idx++;
+            }
+        }
+        int grandFinal = doubleElimination ? idx : NONE;
+        if (doubleElimination) {
+            b.type[grandFinal] = GRAND_FINAL;
+            b.round[grandFinal] = 1;
+        }
+
+        // winners bracket: winner moves up, loser drops into the losers bracket
+        for (int r = 1; r <= k; r++) {
+            int count = size >> r;
+            for (int p = 0; p < count; p++) {
+                int node = wStart[r] + p;
+                if (r < k) {
+                    link(b.winTo, b.winSide, node, wStart[r + 1] + p / 2, p % 2);
+                } else if (doubleElimination) {
+                    link(b.winTo, b.winSide, node, grandFinal, 0);
+                }
+                if (!doubleElimination) {
+                    continue;
+                }
+                if (r == 1) {
+                    link(b.loseTo, b.loseSide, node, lStart[1] + p / 2, p % 2);
+                } else {
+                    // alternate the drop order from round to round to keep rematches late
+                    int q = (r % 2 == 0) ? count - 1 - p : p;
+                    link(b.loseTo, b.loseSide, node, lStart[2 * (r - 1)] + q, 1);
+                }
+            }
+        }
+
+        // losers bracket: odd rounds feed the next round straight across, even rounds pair up
+        for (int r = 1; r <= lRounds; r++) {
+            int count = losersRoundSize(size, r);
+            for (int p = 0; p < count; p++) {
+                int node = lStart[r] + p;
+                if (r == lRounds) {
+                    link(b.winTo, b.winSide, node, grandFinal, 1);
+                } else if (r % 2 == 1) {
+                    link(b.winTo, b.winSide, node, lStart[r + 1] + p, 0);
+                } else {
+                    link(b.winTo, b.winSide, node, lStart[r + 1] + p / 2, p % 2);
+                }
+            }
+        }
+
+        // seeds and byes, then walk forward marking sides that can never be filled
+        int[] order = seedOrder(size);
+        for (int p = 0; p < size / 2; p++) {
+            int node = wStart[1] + p;
+            b.homeSeed[node] = order[2 * p];
+            b.awaySeed[node] = order[2 * p + 1];
+            b.homeEmpty[node] = order[2 * p] > entrants;
+            b.awayEmpty[node] = order[2 * p + 1] > entrants;
+        }
+        for (int node = 0; node < nodes; node++) {
+            boolean dead = b.homeEmpty[node] && b.awayEmpty[node];
+            boolean walkover = b.homeEmpty[node] != b.awayEmpty[node];
+            if (dead && b.winTo[node] != NONE) {
+                markEmpty(b, b.winTo[node], b.winSide[node]);
+            }
+            if ((dead || walkover) && b.loseTo[node] != NONE) {
+                markEmpty(b, b.loseTo[node], b.loseSide[node]);
+            }
+        }
+        return b;
+    }
+
+    /**
+     * Standard seeding positions: seed 1 and 2 can only meet in the final, 1-4 and 2-3 in the
+     * semi-finals, and so on. Entry i is the seed at bracket line i.
+     */
+    public static int[] seedOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int n = order.length * 2;
+            int[] next = new int[n];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = n + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    // losers rounds 2j-1 and 2j both have size / 2^(j+1) matches
+    private static int losersRoundSize(int size, int r) {
+        int j = (r + 1) / 2;
+        return size >> (j + 1);
+    }
+
+    private static void link(int[] to, int[] side, int node, int target, int targetSide) {
+        to[node] = target;
+        side[node] = targetSide;
+    }
+
+    private static void markEmpty(Bracket b, int node, int side) {
+        if (side == 0) {
+            b.homeEmpty[node] = true;
+        } else {
+            b.awayEmpty[node] = true;
+        }
+    }
+}
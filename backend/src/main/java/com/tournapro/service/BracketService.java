@@ -0,0 +1,291 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.BracketNodeResponse;
+import com.tournapro.dto.BracketResponse;
+import com.tournapro.dto.GenerateBracketRequest;
+import com.tournapro.dto.GroupStandingsResponse;
+import com.tournapro.dto.StandingRowResponse;
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Team;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.MatchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Elimination brackets of a division. Every node of the {@link BracketEngine} topology is stored
+ * as a match whose bracket_slot is the node index, so the bracket reads back in one query and the
+ * links between nodes are recomputed from the division's format and field size, never stored.
+ * A recorded result moves the winner (and in double elimination the loser) into the nodes it
+ * feeds, following walkovers, and touches nothing else.
+ */
+@Service
+public class BracketService {
+
+    public static final String FORMAT_SINGLE = "SINGLE";
+    public static final String FORMAT_DOUBLE = "DOUBLE";
+
+    public static final String BRACKET_WINNERS = "WINNERS";
+    public static final String BRACKET_LOSERS = "LOSERS";
+    public static final String BRACKET_GRAND_FINAL = "GRAND_FINAL";
+
+    private final MatchRepository matchRepository;
+    private final DivisionService divisionService;
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher events;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BracketService(MatchRepository matchRepository,
+                          DivisionService divisionService,
+                          StandingsService standingsService,
+                          ApplicationEventPublisher events) {
+        this.matchRepository = matchRepository;
+        this.divisionService = divisionService;
+        this.standingsService = standingsService;
+        this.events = events;
+    }
+
+    // Replaces the division's bracket; league and group fixtures are kept
+    @Transactional
+    public BracketResponse generateBracket(Long tournamentId, Long divisionId, GenerateBracketRequest request) {
+        Division division = divisionService.getOwnedDivision(tournamentId, divisionId);
+
+        String format = parseFormat(request != null ? request.getFormat() : null);
+        List<Team> seeds = request != null && request.getTeamIds() != null
+                ? explicitSeeds(division, request.getTeamIds())
+                : seedsFromStandings(division, request != null ? request.getQualifiersPerGroup() : null);
+        String venue = request != null && request.getVenue() != null && !request.getVenue().isBlank()
+                ? request.getVenue().trim()
+                : division.getTournament().getPrimaryVenue();
+
+        BracketEngine.Bracket b = BracketEngine.build(seeds.size(), FORMAT_DOUBLE.equals(format));
+
+        matchRepository.deleteBracket(division);
+        division.setBracketFormat(format);
+        division.setBracketEntrants(seeds.size());
+
+        List<Match> nodes = new ArrayList<>(b.nodeCount());
+        for (int node = 0; node < b.nodeCount(); node++) {
+            Match m = new Match();
+            m.setTournament(division.getTournament());
+            m.setDivision(division);
+            m.setRound(b.round(node));
+            m.setBracketType(bracketType(b.type(node)));
+            m.setBracketSlot(node);
+            m.setVenue(venue);
+            if (b.homeSeed(node) > 0 && !b.sideEmpty(node, 0)) {
+                m.setHomeTeam(seeds.get(b.homeSeed(node) - 1));
+            }
+            if (b.awaySeed(node) > 0 && !b.sideEmpty(node, 1)) {
+                m.setAwayTeam(seeds.get(b.awaySeed(node) - 1));
+            }
+            if (b.isDead(node)) {
+                m.setStatus(Match.Status.WALKOVER);
+            }
+            nodes.add(m);
+        }
+
+        // byes: walk forward once, feeders always come before the nodes they feed
+        for (int node = 0; node < b.nodeCount(); node++) {
+            Match m = nodes.get(node);
+            Team through = m.getHomeTeam() != null ? m.getHomeTeam() : m.getAwayTeam();
+            if (b.isWalkover(node) && through != null) {
+                m.setStatus(Match.Status.WALKOVER);
+                if (b.winTo(node) != BracketEngine.NONE) {
+                    setSide(nodes.get(b.winTo(node)), b.winSide(node), through);
+                }
+            }
+        }
+
+        for (Match m : nodes) {
+            entityManager.persist(m);
+        }
+        entityManager.flush();
+        divisionService.published(division);
+
+        return toResponse(division, b, nodes);
+    }
+
+    @Transactional(readOnly = true)
+    public BracketResponse getBracket(Long tournamentId, Long divisionId) {
+        Division division = divisionService.getOwnedDivision(tournamentId, divisionId);
+        if (division.getBracketFormat() == null) {
+            throw new NoSuchElementException("Division has no bracket: " + divisionId);
+        }
+        return toResponse(division, bracket(division), matchRepository.findBracket(division));
+    }
+
+    /**
+     * Advances the winner and loser of a bracket match that just got its (possibly corrected)
+     * result. Runs in the caller's transaction.
+     */
+    void resultRecorded(Match m) {
+        if (m.getHomeScore().equals(m.getAwayScore())) {
+            throw new IllegalArgumentException(
+                    "A knockout match needs a winner; enter the score after extra time or penalties");
+        }
+        Division division = m.getDivision();
+        BracketEngine.Bracket b = bracket(division);
+        boolean homeWon = m.getHomeScore() > m.getAwayScore();
+        place(division, b, m.getBracketSlot(),
+                homeWon ? m.getHomeTeam() : m.getAwayTeam(),
+                homeWon ? m.getAwayTeam() : m.getHomeTeam());
+    }
+
+    private void place(Division division, BracketEngine.Bracket b, int node, Team winner, Team loser) {
+        if (b.winTo(node) != BracketEngine.NONE) {
+            fill(division, b, b.winTo(node), b.winSide(node), winner);
+        }
+        if (loser != null && b.loseTo(node) != BracketEngine.NONE) {
+            fill(division, b, b.loseTo(node), b.loseSide(node), loser);
+        }
+    }
+
+    private void fill(Division division, BracketEngine.Bracket b, int node, int side, Team team) {
+        Match target = matchRepository.findByDivisionAndBracketSlot(division, node)
+                .orElseThrow(() -> new IllegalStateException("Bracket node missing: " + node));
+        Team current = side == 0 ? target.getHomeTeam() : target.getAwayTeam();
+        if (current != null && current.getId().equals(team.getId())) {
+            return;
+        }
+        // a corrected result may change who goes through, but not past a match already played
+        if (target.getStatus() == Match.Status.COMPLETED) {
+            throw new IllegalArgumentException("Match " + target.getId()
+                    + " further down the bracket has already been played; correct that result first");
+        }
+        setSide(target, side, team);
+        if (b.isWalkover(node)) {
+            target.setStatus(Match.Status.WALKOVER);
+        }
+        events.publishEvent(new TournamentChangeEvent(division.getTournament().getId(),
+                TournamentChangeEvent.MATCH_UPDATE, target.getId(), ScheduleService.toResponse(target)));
+        if (b.isWalkover(node)) {
+            place(division, b, node, team, null);
+        }
+    }
+
+    private static void setSide(Match m, int side, Team team) {
+        if (side == 0) {
+            m.setHomeTeam(team);
+        } else {
+            m.setAwayTeam(team);
+        }
+    }
+
+    private static BracketEngine.Bracket bracket(Division division) {
+        return BracketEngine.build(division.getBracketEntrants(), FORMAT_DOUBLE.equals(division.getBracketFormat()));
+    }
+
+    private static List<Team> explicitSeeds(Division division, List<Long> teamIds) {
+        Map<Long, Team> teams = new HashMap<>();
+        for (Team t : division.getTeams()) {
+            teams.put(t.getId(), t);
+        }
+        Set<Long> seen = new HashSet<>();
+        List<Team> seeds = new ArrayList<>(teamIds.size());
+        for (Long id : teamIds) {
+            Team t = teams.get(id);
+            if (t == null) {
+                throw new IllegalArgumentException("Team is not in the division: " + id);
+            }
+            if (!seen.add(id)) {
+                throw new IllegalArgumentException("Team seeded twice: " + id);
+            }
+            seeds.add(t);
+        }
+        return seeds;
+    }
+
+    // group winners first, then runners-up and so on; teams in the same place are ranked by
+    // points, goal difference and goals scored, so the best group winner is the top seed
+    private List<Team> seedsFromStandings(Division division, Integer qualifiersPerGroup) {
+        Map<Long, Team> teams = new HashMap<>();
+        for (Team t : division.getTeams()) {
+            teams.put(t.getId(), t);
+        }
+        int qualifiers = qualifiersPerGroup != null ? qualifiersPerGroup : Integer.MAX_VALUE;
+
+        List<StandingRowResponse> rows = new ArrayList<>();
+        for (GroupStandingsResponse group : standingsService.snapshot(division.getId()).getGroups()) {
+            for (StandingRowResponse row : group.getRows()) {
+                if (row.getPosition() <= qualifiers && teams.containsKey(row.getTeamId())) {
+                    rows.add(row);
+                }
+            }
+        }
+        rows.sort(Comparator.comparingInt(StandingRowResponse::getPosition)
+                .thenComparing(Comparator.comparingInt(StandingRowResponse::getPoints).reversed())
+                .thenComparing(Comparator.comparingInt(StandingRowResponse::getGoalDifference).reversed())
+                .thenComparing(Comparator.comparingInt(StandingRowResponse::getGoalsFor).reversed())
+                .thenComparing(StandingRowResponse::getTeamId));
+
+        List<Team> seeds = new ArrayList<>(rows.size());
+        for (StandingRowResponse row : rows) {
+            seeds.add(teams.get(row.getTeamId()));
+        }
+        return seeds;
+    }
+
+    static String parseFormat(String value) {
+        if (value == null || value.isBlank()) {
+            return FORMAT_SINGLE;
+        }
+        String format = value.trim().toUpperCase();
+        if (!FORMAT_SINGLE.equals(format) && !FORMAT_DOUBLE.equals(format)) {
+            throw new IllegalArgumentException("Unknown bracket format: " + value);
+        }
+        return format;
+    }
+
+    static String bracketType(byte type) {
+        switch (type) {
+            case BracketEngine.WINNERS:
+                return BRACKET_WINNERS;
+            case BracketEngine.LOSERS:
+                return BRACKET_LOSERS;
+            default:
+                return BRACKET_GRAND_FINAL;
+        }
+    }
+
+    private static BracketResponse toResponse(Division division, BracketEngine.Bracket b, List<Match> matches) {
+        List<BracketNodeResponse> nodes = new ArrayList<>(matches.size());
+        for (Match m : matches) {
+            int slot = m.getBracketSlot();
+            Team home = m.getHomeTeam();
+            Team away = m.getAwayTeam();
+            nodes.add(new BracketNodeResponse(
+                    slot,
+                    m.getBracketType(),
+                    m.getRound(),
+                    m.getId(),
+                    home != null ? home.getId() : null,
+                    home != null ? home.getName() : null,
+                    away != null ? away.getId() : null,
+                    away != null ? away.getName() : null,
+                    m.getHomeScore(),
+                    m.getAwayScore(),
+                    m.getStatus().name(),
+                    m.getScheduledTime(),
+                    b.winTo(slot) != BracketEngine.NONE ? b.winTo(slot) : null,
+                    b.loseTo(slot) != BracketEngine.NONE ? b.loseTo(slot) : null
+            ));
+        }
+        return new BracketResponse(division.getId(), division.getBracketFormat(), b.size(), b.entrants(), nodes);
+    }
+}
@@ -0,0 +1,55 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.CacheRegionStatsResponse;
+import com.tournapro.metrics.MetricsRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hit, miss and put counts of the second-level cache regions (needs
+ * hibernate.generate_statistics, which application.properties turns on), also exported as
+ * {@code tournapro_cache_{hits,misses,puts}_total{region}}.
+ */
+@Service
+public class CacheStatsService {
+
+    private final Statistics statistics;
+
+    public CacheStatsService(EntityManagerFactory entityManagerFactory, MetricsRegistry metrics) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            metrics.counterFunction("tournapro_cache_hits", "Second-level cache hits",
+                    () -> region(name, CacheRegionStatistics::getHitCount), "region", name);
+            metrics.counterFunction("tournapro_cache_misses", "Second-level cache misses",
+                    () -> region(name, CacheRegionStatistics::getMissCount), "region", name);
+            metrics.counterFunction("tournapro_cache_puts", "Second-level cache puts",
+                    () -> region(name, CacheRegionStatistics::getPutCount), "region", name);
+        }
+    }
+
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        String[] names = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(names);
+        List<CacheRegionStatsResponse> regions = new ArrayList<>(names.length);
+        for (String name : names) {
+            CacheRegionStatistics s = statistics.getCacheRegionStatistics(name);
+            if (s != null) {
+                regions.add(new CacheRegionStatsResponse(name, s.getHitCount(), s.getMissCount(), s.getPutCount()));
+            }
+        }
+        return regions;
+    }
+
+    private Long region(String name, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics s = statistics.getCacheRegionStatistics(name);
+        return s != null ? count.applyAsLong(s) : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.tournapro.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180): quoted fields, doubled quotes, separators and line
+ * breaks inside quotes, CRLF or LF line endings. Reads one record at a time so memory stays flat
+ * regardless of file size. The separator is a comma unless told otherwise.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader in;
+    private final char separator;
+    private int lineNumber = 0;
+    private boolean eof = false;
+
+    public CsvReader(Reader in) {
+        this(in, ',');
+    }
+
+    public CsvReader(Reader in, char separator) {
+        // mark/reset is used to look one character past a closing quote
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        this.separator = separator;
+    }
+
+    /**
+     * Returns the next record, or null at end of input. Blank lines are skipped.
+     */
+    public List<String> readRow() throws IOException {
+        while (!eof) {
+            List<String> row = readRecord();
+            if (row == null) {
+                return null;
+            }
+            if (!(row.size() == 1 && row.get(0).isEmpty())) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 1-based physical line on which the last returned record ended.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+
+        while (true) {
+            int c = in.read();
+            if (c == -1) {
+                eof = true;
+                if (!any) {
+                    return null;
+                }
+                fields.add(field.toString());
+                lineNumber++;
+                return fields;
+            }
+            any = true;
+
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next == -1) {
+                            eof = true;
+                            fields.add(field.toString());
+                            lineNumber++;
+                            return fields;
+                        }
+                        in.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r') {
+                // swallowed; the following \n ends the record
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                lineNumber++;
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
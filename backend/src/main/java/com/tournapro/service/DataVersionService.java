@@ -0,0 +1,48 @@
+package com.tournapro.service;
+
+import com.tournapro.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The data version of a tournament (tournaments.data_version), bumped in the same transaction as
+ * every change to its teams, players, referees or administrators. Organizer list endpoints use it
+ * as their ETag, so revalidating an unchanged list costs one primary-key lookup and no entity
+ * loads.
+ */
+@Service
+public class DataVersionService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentAccessService accessService;
+    private final ResponseCache responseCache;
+
+    public DataVersionService(TournamentRepository tournamentRepository,
+                              TournamentAccessService accessService,
+                              ResponseCache responseCache) {
+        this.tournamentRepository = tournamentRepository;
+        this.accessService = accessService;
+        this.responseCache = responseCache;
+    }
+
+    // joins the caller's transaction; the row lock it takes is held until that commits
+    @Transactional
+    public void changed(Long tournamentId) {
+        tournamentRepository.bumpDataVersion(tournamentId);
+        responseCache.changed(ResponseCache.tournament(tournamentId));
+    }
+
+    /**
+     * Current data version of the tournament, or null when the tournament does not exist or the
+     * current user does not own it; the full request then reports why.
+     */
+    public Long version(Long tournamentId) {
+        return tournamentRepository.findDataVersion(tournamentId, accessService.getCurrentUser().getId())
+                .orElse(null);
+    }
+
+    /** ETag of one of the tournament's lists at {@code version}; null when the version is. */
+    public static String etag(Long tournamentId, String resource, Long version) {
+        return version != null ? "\"" + resource + "-" + tournamentId + "-" + version + "\"" : null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.CreateDivisionRequest;
+import com.tournapro.dto.DivisionResponse;
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.DivisionRepository;
+import com.tournapro.repository.MatchRepository;
+import com.tournapro.repository.TeamRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class DivisionService {
+
+    private final DivisionRepository divisionRepository;
+    private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+    private final TournamentAccessService accessService;
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher events;
+
+    public DivisionService(DivisionRepository divisionRepository,
+                           TeamRepository teamRepository,
+                           MatchRepository matchRepository,
+                           TournamentAccessService accessService,
+                           StandingsService standingsService,
+                           ApplicationEventPublisher events) {
+        this.divisionRepository = divisionRepository;
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.accessService = accessService;
+        this.standingsService = standingsService;
+        this.events = events;
+    }
+
+    // Division of an owned tournament, with its teams loaded
+    Division getOwnedDivision(Long tournamentId, Long divisionId) {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+        return divisionRepository.findByIdAndTournament(divisionId, tournament)
+                .orElseThrow(() -> new NoSuchElementException("Division not found: " + divisionId));
+    }
+
+    @Transactional
+    public DivisionResponse createDivision(Long tournamentId, CreateDivisionRequest request) {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+
+        Division d = new Division();
+        d.setTournament(tournament);
+        d.setName(request.getName().trim());
+        if (request.getTeamIds() != null) {
+            d.setTeams(resolveTeams(tournament, request.getTeamIds()));
+        }
+        return published(divisionRepository.save(d));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DivisionResponse> getDivisions(Long tournamentId) {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+        return divisionRepository.findByTournamentOrderByNameAscIdAsc(tournament)
+                .stream()
+                .map(DivisionService::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public DivisionResponse getDivision(Long tournamentId, Long divisionId) {
+        return toResponse(getOwnedDivision(tournamentId, divisionId));
+    }
+
+    @Transactional
+    public DivisionResponse updateDivision(Long tournamentId, Long divisionId, CreateDivisionRequest request) {
+        Division d = getOwnedDivision(tournamentId, divisionId);
+        d.setName(request.getName().trim());
+        if (request.getTeamIds() != null) {
+            d.setTeams(resolveTeams(d.getTournament(), request.getTeamIds()));
+            standingsService.evictDivision(divisionId);
+        }
+        return published(divisionRepository.save(d));
+    }
+
+    @Transactional
+    public void deleteDivision(Long tournamentId, Long divisionId) {
+        Division d = getOwnedDivision(tournamentId, divisionId);
+        matchRepository.deleteByDivision(d);
+        divisionRepository.delete(d);
+        standingsService.evictDivision(divisionId);
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.DIVISION_UPDATE,
+                divisionId, TournamentChangeEvent.deleted(divisionId)));
+    }
+
+    // also used after schedule and bracket generation, which change what the division shows
+    DivisionResponse published(Division d) {
+        DivisionResponse response = toResponse(d);
+        events.publishEvent(new TournamentChangeEvent(d.getTournament().getId(),
+                TournamentChangeEvent.DIVISION_UPDATE, d.getId(), response));
+        return response;
+    }
+
+    // every id must be a team of this tournament
+    private Set<Team> resolveTeams(Tournament tournament, List<Long> teamIds) {
+        Set<Long> wanted = new LinkedHashSet<>(teamIds);
+        List<Team> found = teamRepository.findAllById(wanted);
+        if (found.size() != wanted.size()) {
+            throw new IllegalArgumentException("Unknown team id in division");
+        }
+        Set<Team> teams = new LinkedHashSet<>();
+        for (Team t : found) {
+            if (!t.getTournament().getId().equals(tournament.getId())) {
+                throw new IllegalArgumentException("Team " + t.getId() + " does not belong to this tournament");
+            }
+            teams.add(t);
+        }
+        return teams;
+    }
+
+    static DivisionResponse toResponse(Division d) {
+        return new DivisionResponse(
+                d.getId(),
+                d.getName(),
+                d.getTeams().stream().map(Team::getId).sorted().collect(Collectors.toList()),
+                d.getCreatedAt()
+        );
+    }
+}
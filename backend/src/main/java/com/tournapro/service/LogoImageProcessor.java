@@ -0,0 +1,251 @@
+package com.tournapro.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes uploaded logos and renders the fixed thumbnail sizes on a small bounded pool.
+ *
+ * Thumbnails are re-encoded as PNG from raw pixels, which drops EXIF/ICC and any other metadata of
+ * the original. Decoding uses source subsampling so even a large original is never fully expanded
+ * in memory. If the queue is full the job is dropped; the variant is requested again the next time
+ * someone asks for that size.
+ */
+@Service
+public class LogoImageProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(LogoImageProcessor.class);
+
+    public static final List<Integer> VARIANT_SIZES = List.of(32, 64, 256);
+
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+    public LogoImageProcessor(@Value("${logo.max-pixels:16000000}") long maxPixels,
+                              @Value("${logo.processing.threads:2}") int threads,
+                              @Value("${logo.processing.queue-capacity:100}") int queueCapacity) {
+        this.maxPixels = maxPixels;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "logo-processor-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Reads only the image header and rejects images above the pixel limit, and files that are not
+     * an image at all. WebP has no ImageIO reader, so its size comes from the RIFF header.
+     */
+    public void validatePixels(Path image) throws IOException {
+        long pixels;
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader != null) {
+                try {
+                    pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                } catch (IOException | RuntimeException e) {
+                    throw new IllegalArgumentException("Logo is not a readable image");
+                } finally {
+                    reader.dispose();
+                }
+            } else {
+                pixels = webpPixels(image);
+            }
+        }
+        if (pixels > maxPixels) {
+            throw new IllegalArgumentException("Logo is too large: " + pixels + " pixels (max " + maxPixels + ")");
+        }
+    }
+
+    // canvas size from the first chunk of a WebP file (lossy VP8, lossless VP8L or extended VP8X)
+    static long webpPixels(Path image) throws IOException {
+        byte[] h = new byte[30];
+        int n;
+        try (InputStream in = Files.newInputStream(image)) {
+            n = in.readNBytes(h, 0, h.length);
+        }
+        if (n < h.length || !ascii(h, 0, "RIFF") || !ascii(h, 8, "WEBP")) {
+            throw new IllegalArgumentException("Logo is not a readable image");
+        }
+        long width;
+        long height;
+        if (ascii(h, 12, "VP8 ") && (h[23] & 0xff) == 0x9d && (h[24] & 0xff) == 0x01 && (h[25] & 0xff) == 0x2a) {
+            width = uint(h, 26, 2) & 0x3fff;
+            height = uint(h, 28, 2) & 0x3fff;
+        } else if (ascii(h, 12, "VP8L") && (h[20] & 0xff) == 0x2f) {
+            long bits = uint(h, 21, 4);
+            width = (bits & 0x3fff) + 1;
+            height = ((bits >> 14) & 0x3fff) + 1;
+        } else if (ascii(h, 12, "VP8X")) {
+            width = uint(h, 24, 3) + 1;
+            height = uint(h, 27, 3) + 1;
+        } else {
+            throw new IllegalArgumentException("Logo is not a readable image");
+        }
+        return width * height;
+    }
+
+    private static boolean ascii(byte[] b, int offset, String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (b[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // little-endian unsigned
+    private static long uint(byte[] b, int offset, int length) {
+        long v = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            v = (v << 8) | (b[offset + i] & 0xff);
+        }
+        return v;
+    }
+
+    /**
+     * Queues thumbnail rendering for a stored original. Variants are written next to it as
+     * {@code <hash>-<size>.png}. Returns immediately.
+     */
+    public void submitVariants(Path original, String hash) {
+        if (!inFlight.add(original)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    renderVariants(original, hash);
+                } catch (Exception e) {
+                    log.warn("Could not render logo variants for {}: {}", original.getFileName(), e.getMessage());
+                } finally {
+                    inFlight.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(original);
+            log.debug("Logo processing queue full, skipping {}", original.getFileName());
+        }
+    }
+
+    public static Path variantPath(Path dir, String hash, int size) {
+        return dir.resolve(hash + "-" + size + ".png");
+    }
+
+    private void renderVariants(Path original, String hash) throws IOException {
+        Path dir = original.getParent();
+        int largest = VARIANT_SIZES.get(VARIANT_SIZES.size() - 1);
+
+        BufferedImage source = decodeForTarget(original, largest);
+        if (source == null) {
+            return;
+        }
+
+        for (int size : VARIANT_SIZES) {
+            Path target = variantPath(dir, hash, size);
+            if (Files.exists(target)) {
+                continue;
+            }
+            BufferedImage scaled = scaleToFit(source, size);
+            Path tmp = Files.createTempFile(dir, "variant-", ".tmp");
+            try {
+                ImageIO.write(scaled, "png", tmp.toFile());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    // Decodes with subsampling so the decoded image is at most ~2x the target box
+    private BufferedImage decodeForTarget(Path image, int box) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+            ImageReader reader = readerFor(in);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (box * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage source, int box) {
+        double scale = Math.min(1.0, Math.min((double) box / source.getWidth(), (double) box / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        if (in == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,202 @@
+package com.tournapro.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store for team logos on the local filesystem.
+ *
+ * Files are named by the SHA-256 of their bytes, so identical uploads share one file and a stored
+ * file never changes, which lets the logo endpoint serve it as immutable. Raster logos also get
+ * thumbnail variants rendered in the background by {@link LogoImageProcessor}.
+ */
+@Service
+public class LogoStorageService {
+
+    public static final String PUBLIC_PATH = "/api/public/logos/";
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "webp", "image/webp"
+    );
+
+    private static final Pattern FILENAME = Pattern.compile("^[0-9a-f]{64}(-\\d+)?\\.(png|jpg|gif|webp)$");
+
+    private final Path storageDir;
+    private final long maxBytes;
+    private final LogoImageProcessor imageProcessor;
+
+    public LogoStorageService(@Value("${logo.storage-dir:data/logos}") String storageDir,
+                              @Value("${logo.max-bytes:5242880}") long maxBytes,
+                              LogoImageProcessor imageProcessor) throws IOException {
+        this.storageDir = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.imageProcessor = imageProcessor;
+        Files.createDirectories(this.storageDir);
+    }
+
+    /**
+     * Streams the upload to disk while hashing it and returns the stored file name ({@code <sha256>.<ext>}).
+     * The byte limit is enforced while copying and the pixel limit from the image header, so an
+     * oversized upload is rejected without ever being held in memory.
+     */
+    public String store(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Empty file upload");
+        }
+        String extension = EXTENSIONS.get(file.getContentType());
+        if (extension == null) {
+            throw new IllegalArgumentException("Unsupported logo type: " + file.getContentType());
+        }
+
+        Path tmp = Files.createTempFile(storageDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                copyLimited(in, out);
+            }
+            imageProcessor.validatePixels(tmp);
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String filename = hash + "." + extension;
+            Path target = storageDir.resolve(filename);
+            moveIntoPlace(tmp, target);
+            imageProcessor.submitVariants(target, hash);
+            return filename;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public String publicUrl(String filename) {
+        return PUBLIC_PATH + filename;
+    }
+
+    /**
+     * Resolves a stored file, rejecting anything that is not a name this store produced.
+     */
+    public Path resolve(String filename) {
+        if (filename == null || !FILENAME.matcher(filename).matches()) {
+            throw new NoSuchElementException("Logo not found: " + filename);
+        }
+        Path path = storageDir.resolve(filename);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchElementException("Logo not found: " + filename);
+        }
+        return path;
+    }
+
+    /**
+     * Resolves the smallest stored variant that is at least {@code size} pixels on its longest side.
+     * Falls back to the original (and queues rendering) when that variant does not exist yet, or
+     * when the request is larger than every variant.
+     */
+    public String resolveForSize(String filename, Integer size) {
+        Path original = resolve(filename);
+        if (size == null || size <= 0) {
+            return filename;
+        }
+        String hash = hashOf(filename);
+        for (int variant : LogoImageProcessor.VARIANT_SIZES) {
+            if (variant >= size) {
+                Path path = LogoImageProcessor.variantPath(storageDir, hash, variant);
+                if (Files.isRegularFile(path)) {
+                    return path.getFileName().toString();
+                }
+                imageProcessor.submitVariants(original, hash);
+                return filename;
+            }
+        }
+        return filename;
+    }
+
+    /**
+     * Whether {@code served}, resolved for {@code filename} and {@code size}, is what that request
+     * will always get. False while the requested thumbnail is not rendered yet and the original
+     * stands in for it.
+     */
+    public boolean isFinal(String filename, Integer size, String served) {
+        int largest = LogoImageProcessor.VARIANT_SIZES.get(LogoImageProcessor.VARIANT_SIZES.size() - 1);
+        return !served.equals(filename) || size == null || size <= 0 || size > largest;
+    }
+
+    public String contentType(String filename) {
+        String extension = filename.substring(filename.lastIndexOf('.') + 1);
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    /**
+     * The hash part of a stored file name.
+     */
+    public String hashOf(String filename) {
+        return filename.substring(0, 64);
+    }
+
+    /**
+     * Strong ETag of a stored file: its name without the extension, i.e. the hash plus any variant size.
+     */
+    public String etagOf(String filename) {
+        int dot = filename.indexOf('.');
+        return "\"" + (dot < 0 ? filename : filename.substring(0, dot)) + "\"";
+    }
+
+    private void copyLimited(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new IllegalArgumentException("Logo is too large (max " + maxBytes + " bytes)");
+            }
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private void moveIntoPlace(Path tmp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            // same content already stored
+            return;
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.MatchResponse;
+import com.tournapro.dto.MatchResultRequest;
+import com.tournapro.dto.UpdateMatchScheduleRequest;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Referee;
+import com.tournapro.entity.Tournament;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.MatchRepository;
+import com.tournapro.repository.RefereeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+public class MatchService {
+
+    private final MatchRepository matchRepository;
+    private final RefereeRepository refereeRepository;
+    private final TournamentAccessService accessService;
+    private final StandingsService standingsService;
+    private final BracketService bracketService;
+    private final ApplicationEventPublisher events;
+
+    public MatchService(MatchRepository matchRepository,
+                        RefereeRepository refereeRepository,
+                        TournamentAccessService accessService,
+                        StandingsService standingsService,
+                        BracketService bracketService,
+                        ApplicationEventPublisher events) {
+        this.matchRepository = matchRepository;
+        this.refereeRepository = refereeRepository;
+        this.accessService = accessService;
+        this.standingsService = standingsService;
+        this.bracketService = bracketService;
+        this.events = events;
+    }
+
+    Match getOwnedMatch(Long tournamentId, Long matchId) {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+        return matchRepository.findByIdAndTournament(matchId, tournament)
+                .orElseThrow(() -> new NoSuchElementException("Match not found: " + matchId));
+    }
+
+    @Transactional(readOnly = true)
+    public MatchResponse getMatch(Long tournamentId, Long matchId) {
+        return ScheduleService.toResponse(getOwnedMatch(tournamentId, matchId));
+    }
+
+    // Manual placement; overrides whatever the slot scheduler chose
+    @Transactional
+    public MatchResponse updateSchedule(Long tournamentId, Long matchId, UpdateMatchScheduleRequest request) {
+        Match m = getOwnedMatch(tournamentId, matchId);
+        m.setScheduledTime(request.getScheduledTime());
+        m.setVenue(request.getVenue());
+        m.setPitch(request.getPitch());
+
+        if (request.getRefereeId() == null) {
+            m.setReferee(null);
+        } else {
+            Referee r = refereeRepository.findById(request.getRefereeId())
+                    .filter(ref -> ref.getTournament().getId().equals(tournamentId))
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown referee: " + request.getRefereeId()));
+            m.setReferee(r);
+        }
+        return published(tournamentId, matchRepository.save(m));
+    }
+
+    // Enter or correct a score; standings take it as a delta once the transaction commits,
+    // knockout winners move on through the bracket in the same transaction
+    @Transactional
+    public MatchResponse recordResult(Long tournamentId, Long matchId, MatchResultRequest request) {
+        Tournament tournament = accessService.getTournamentForResults(tournamentId);
+        Match m = matchRepository.findByIdAndTournament(matchId, tournament)
+                .orElseThrow(() -> new NoSuchElementException("Match not found: " + matchId));
+        if (m.getHomeTeam() == null || m.getAwayTeam() == null) {
+            throw new IllegalArgumentException("Both teams must be known before a result is entered");
+        }
+
+        m.setHomeScore(request.getHomeScore());
+        m.setAwayScore(request.getAwayScore());
+        m.setStatus(Match.Status.COMPLETED);
+        Match saved = matchRepository.save(m);
+
+        if (saved.getBracketSlot() != null) {
+            bracketService.resultRecorded(saved);
+        }
+        if (StandingsService.countsForStandings(saved)) {
+            standingsService.resultRecorded(saved.getDivision().getId(), saved.getId(),
+                    saved.getHomeTeam().getId(), saved.getAwayTeam().getId(),
+                    saved.getHomeScore(), saved.getAwayScore());
+        }
+        return published(tournamentId, saved);
+    }
+
+    // spectators get the same view of the match as the response
+    private MatchResponse published(Long tournamentId, Match m) {
+        MatchResponse response = ScheduleService.toResponse(m);
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.MATCH_UPDATE, m.getId(), response));
+        return response;
+    }
+}
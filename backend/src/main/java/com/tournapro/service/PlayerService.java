@@ -1,17 +1,19 @@
 package com.tournapro.service;
 
 import com.tournapro.dto.CreatePlayerRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.dto.PlayerResponse;
+import com.tournapro.dto.PublicPlayerResponse;
 import com.tournapro.entity.Player;
 import com.tournapro.entity.Team;
 import com.tournapro.entity.Tournament;
-import com.tournapro.entity.User;
+import com.tournapro.event.TournamentChangeEvent;
 import com.tournapro.repository.PlayerRepository;
 import com.tournapro.repository.TeamRepository;
-import com.tournapro.repository.TournamentRepository;
-import com.tournapro.repository.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,29 +25,31 @@ public class PlayerService {
 
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
-    private final TournamentRepository tournamentRepository;
-    private final UserRepository userRepository;
+    private final TournamentAccessService accessService;
+    private final ApplicationEventPublisher events;
+    private final ResponseCache responseCache;
+    private final DataVersionService dataVersions;
+    private final AuditService audit;
 
     public PlayerService(PlayerRepository playerRepository,
                          TeamRepository teamRepository,
-                         TournamentRepository tournamentRepository,
-                         UserRepository userRepository) {
+                         TournamentAccessService accessService,
+                         ApplicationEventPublisher events,
+                         ResponseCache responseCache,
+                         DataVersionService dataVersions,
+                         AuditService audit) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
-        this.tournamentRepository = tournamentRepository;
-        this.userRepository = userRepository;
+        this.accessService = accessService;
+        this.events = events;
+        this.responseCache = responseCache;
+        this.dataVersions = dataVersions;
+        this.audit = audit;
     }
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
-    }
-
-    private Team getTeamIfOwned(Long tournamentId, Long teamId) {
-        Tournament t = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
+    Team getTeamIfOwned(Long tournamentId, Long teamId) {
+        // ensure current user owns tournament (memoized per request)
+        Tournament t = accessService.getOwnedTournament(tournamentId);
 
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found: " + teamId));
@@ -55,12 +59,6 @@ public class PlayerService {
             throw new IllegalArgumentException("Team does not belong to tournament");
         }
 
-        // ensure current user owns tournament
-        User current = getCurrentUser();
-        if (!t.getOwner().getId().equals(current.getId())) {
-            throw new IllegalStateException("You do not own this tournament");
-        }
-
         return team;
     }
 
@@ -75,24 +73,27 @@ public class PlayerService {
         p.setNumber(req.getNumber());
 
         Player saved = playerRepository.save(p);
-        return toResponse(saved);
+        return published(tournamentId, saved, AuditService.CREATE);
     }
 
     @Transactional
     public List<PlayerResponse> bulkCreate(Long tournamentId, Long teamId, List<CreatePlayerRequest> reqs) {
         Team team = getTeamIfOwned(tournamentId, teamId);
 
-        List<Player> created = reqs.stream().map(r -> {
-            Player p = new Player();
-            p.setTeam(team);
-            p.setName(r.getName());
-            p.setDob(r.getDob());
-            p.setNumber(r.getNumber());
-            return p;
-        }).collect(Collectors.toList());
+        List<Player> created = reqs.stream()
+                .map(r -> newPlayer(team, r))
+                .collect(Collectors.toList());
 
         List<Player> saved = playerRepository.saveAll(created);
-        return saved.stream().map(this::toResponse).collect(Collectors.toList());
+        List<PlayerResponse> responses = saved.stream().map(PlayerService::toResponse).collect(Collectors.toList());
+        if (!responses.isEmpty()) {
+            // one version bump, audit entry and event for the whole batch, not one per player
+            dataVersions.changed(tournamentId);
+            audit.record(tournamentId, AuditService.PLAYER, null, AuditService.CREATE, responses);
+            events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.ROSTER_UPDATE,
+                    null, TournamentChangeEvent.rosterChanged(responses.size())));
+        }
+        return responses;
     }
 
     @Transactional(readOnly = true)
@@ -100,10 +101,48 @@ public class PlayerService {
         Team team = getTeamIfOwned(tournamentId, teamId);
         return playerRepository.findByTeamOrderByNameAsc(team)
                 .stream()
-                .map(this::toResponse)
+                .map(PlayerService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    // listPlayers as JSON, cached per data version (DataVersionService.version, read for the ETag)
+    public byte[] listPlayersJson(Long tournamentId, Long teamId, Long dataVersion) {
+        getTeamIfOwned(tournamentId, teamId);
+        return responseCache.get(ResponseCache.tournament(tournamentId), "players-" + teamId, dataVersion,
+                () -> listPlayers(tournamentId, teamId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PlayerResponse> listPlayersPaged(Long tournamentId, Long teamId, int page, int size) {
+        Team team = getTeamIfOwned(tournamentId, teamId);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), KeysetCursor.clampSize(size),
+                Sort.by("name").ascending().and(Sort.by("id").ascending()));
+        return playerRepository.findByTeam(team, pageable).map(PlayerService::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> listPlayersAfter(Long tournamentId, Long teamId, String cursor, int size, boolean includeTotal) {
+        Team team = getTeamIfOwned(tournamentId, teamId);
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+        List<Player> rows = after == null
+                ? playerRepository.findByTeamOrderByNameAscIdAsc(team, fetch)
+                : playerRepository.findPageAfter(team, after.getKey(), after.getId(), fetch);
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Player last = rows.get(limit - 1);
+            next = KeysetCursor.encode(last.getName(), last.getId());
+        }
+
+        Long total = includeTotal ? playerRepository.countByTeam(team) : null;
+        List<PlayerResponse> content = rows.stream().map(PlayerService::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(content, next, total);
+    }
+
     // --- NEW: update and delete methods ---
 
     @Transactional
@@ -124,7 +163,7 @@ public class PlayerService {
         existing.setNumber(req.getNumber());
 
         Player saved = playerRepository.save(existing);
-        return toResponse(saved);
+        return published(tournamentId, saved, AuditService.UPDATE);
     }
 
     @Transactional
@@ -138,10 +177,38 @@ public class PlayerService {
             throw new IllegalArgumentException("Player does not belong to the specified team");
         }
 
+        audit.record(tournamentId, AuditService.PLAYER, playerId, AuditService.DELETE, toResponse(existing));
         playerRepository.delete(existing);
+        dataVersions.changed(tournamentId);
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.PLAYER_UPDATE,
+                playerId, TournamentChangeEvent.deleted(playerId)));
+    }
+
+    private PlayerResponse published(Long tournamentId, Player p, String action) {
+        dataVersions.changed(tournamentId);
+        PlayerResponse response = toResponse(p);
+        audit.record(tournamentId, AuditService.PLAYER, p.getId(), action, response);
+        // the feeds are public, so they get the spectator view of the player
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.PLAYER_UPDATE,
+                p.getId(), toPublicResponse(p)));
+        return response;
+    }
+
+    // shared with the streaming roster import
+    static Player newPlayer(Team team, CreatePlayerRequest r) {
+        Player p = new Player();
+        p.setTeam(team);
+        p.setName(r.getName());
+        p.setDob(r.getDob());
+        p.setNumber(r.getNumber());
+        return p;
+    }
+
+    static PublicPlayerResponse toPublicResponse(Player p) {
+        return new PublicPlayerResponse(p.getId(), p.getName(), p.getNumber());
     }
 
-    private PlayerResponse toResponse(Player p) {
+    static PlayerResponse toResponse(Player p) {
         return new PlayerResponse(
                 p.getId(),
                 p.getName(),
@@ -0,0 +1,440 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournapro.config.ReadReplicaDataSource;
+import com.tournapro.dto.DivisionResponse;
+import com.tournapro.dto.MatchResponse;
+import com.tournapro.dto.PublicTeamResponse;
+import com.tournapro.dto.TournamentResponse;
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.DivisionRepository;
+import com.tournapro.repository.MatchRepository;
+import com.tournapro.repository.TeamRepository;
+import com.tournapro.repository.TournamentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read model behind the public API. Every tournament a spectator has asked for has an immutable
+ * {@link Snapshot} of its details, teams, divisions, matches and standings, each already
+ * serialized to JSON with a strong ETag over the bytes. Requests only look snapshots up; they do
+ * not open a transaction or touch the persistence context.
+ *
+ * Committed {@link TournamentChangeEvent}s queue a rebuild on a background thread. Events that
+ * arrive while a rebuild is queued share it, and the finished snapshot replaces the old one in a
+ * single write, so readers see either the old state or the new one. Snapshots carry the version
+ * they were started at and an older build never replaces a newer one.
+ *
+ * Snapshots are kept within {@code public.snapshot.max-bytes}; past that the least recently read
+ * ones are dropped and rebuilt on their next request. A first build runs on the requesting thread
+ * while other requests for the same tournament wait for its result.
+ *
+ * Which tournaments exist and which tournament a division belongs to come from a small
+ * {@link Index}, loaded at startup and reloaded when tournaments or divisions change, so unknown
+ * ids are answered with a 404 without a query as well.
+ */
+@Service
+public class PublicSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicSnapshotService.class);
+
+    private final TournamentRepository tournamentRepository;
+    private final TeamRepository teamRepository;
+    private final DivisionRepository divisionRepository;
+    private final MatchRepository matchRepository;
+    private final StandingsService standingsService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final long rebuildDelayMs;
+    private final long maxBytes;
+    // read without locking; changed only under the lock of this map, which also guards storedBytes
+    private final ConcurrentHashMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private long storedBytes;
+    // first builds running on request threads, which later requests for the tournament wait for
+    private final ConcurrentHashMap<Long, CompletableFuture<Snapshot>> building = new ConcurrentHashMap<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean indexQueued = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
+    private final ScheduledExecutorService rebuilder;
+    private volatile Index index;
+
+    public PublicSnapshotService(TournamentRepository tournamentRepository,
+                                 TeamRepository teamRepository,
+                                 DivisionRepository divisionRepository,
+                                 MatchRepository matchRepository,
+                                 StandingsService standingsService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${public.snapshot.rebuild-delay-ms:250}") long rebuildDelayMs,
+                                 @Value("${public.snapshot.max-bytes:67108864}") long maxBytes) {
+        this.tournamentRepository = tournamentRepository;
+        this.teamRepository = teamRepository;
+        this.divisionRepository = divisionRepository;
+        this.matchRepository = matchRepository;
+        this.standingsService = standingsService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.rebuildDelayMs = rebuildDelayMs;
+        this.maxBytes = maxBytes;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "public-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleIndex();
+    }
+
+    // after commit; events published outside a transaction are handled at once
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(TournamentChangeEvent event) {
+        Long tournamentId = event.getTournamentId();
+        if (TournamentChangeEvent.TOURNAMENT_UPDATE.equals(event.getType())
+                || TournamentChangeEvent.DIVISION_UPDATE.equals(event.getType())) {
+            scheduleIndex();
+        }
+        // tournaments nobody has asked for are built on their first request instead
+        if (!snapshots.containsKey(tournamentId) && !building.containsKey(tournamentId)) {
+            return;
+        }
+        if (queued.add(tournamentId)) {
+            rebuilder.schedule(() -> {
+                // taken off first, so a change committed during the build queues another one
+                queued.remove(tournamentId);
+                rebuildSafely(tournamentId);
+            }, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public Json tournaments() {
+        return index().tournaments;
+    }
+
+    public Json tournament(Long tournamentId) {
+        return snapshot(tournamentId).tournament;
+    }
+
+    public Json teams(Long tournamentId) {
+        return snapshot(tournamentId).teams;
+    }
+
+    public Json divisions(Long tournamentId) {
+        return snapshot(tournamentId).divisions;
+    }
+
+    public Json matches(Long divisionId) {
+        return divisionPart(divisionId, snapshot(tournamentOf(divisionId)).matches);
+    }
+
+    public Json standings(Long divisionId) {
+        return divisionPart(divisionId, snapshot(tournamentOf(divisionId)).standings);
+    }
+
+    private static Json divisionPart(Long divisionId, Map<Long, Json> parts) {
+        Json json = parts.get(divisionId);
+        if (json == null) {
+            // created after the snapshot; the rebuild is on its way
+            throw new NoSuchElementException("Division not found: " + divisionId);
+        }
+        return json;
+    }
+
+    private Long tournamentOf(Long divisionId) {
+        Long tournamentId = index().divisionTournament.get(divisionId);
+        if (tournamentId == null) {
+            throw new NoSuchElementException("Division not found: " + divisionId);
+        }
+        return tournamentId;
+    }
+
+    private Snapshot snapshot(Long tournamentId) {
+        Snapshot s = snapshots.get(tournamentId);
+        if (s == null) {
+            if (!index().tournamentIds.contains(tournamentId)) {
+                throw new NoSuchElementException("Tournament not found: " + tournamentId);
+            }
+            s = firstBuild(tournamentId);
+            if (s == null) {
+                throw new NoSuchElementException("Tournament not found: " + tournamentId);
+            }
+        }
+        s.lastRead = System.nanoTime();
+        return s;
+    }
+
+    // built here, once, outside any map lock; other requests for the tournament wait for the result
+    private Snapshot firstBuild(Long tournamentId) {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = building.putIfAbsent(tournamentId, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException r ? r : e;
+            }
+        }
+        try {
+            Snapshot s = build(tournamentId);
+            s = s != null ? store(tournamentId, s) : null;
+            mine.complete(s);
+            return s;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(tournamentId, mine);
+        }
+    }
+
+    private void rebuildSafely(Long tournamentId) {
+        try {
+            Snapshot s = build(tournamentId);
+            if (s == null) {
+                remove(tournamentId);
+            } else {
+                store(tournamentId, s);
+            }
+        } catch (RuntimeException e) {
+            // the old snapshot stays; the next change tries again
+            log.warn("Public snapshot rebuild failed for tournament {}", tournamentId, e);
+        }
+    }
+
+    // keeps the newer of s and the stored snapshot, then drops the least recently read ones past the budget
+    private Snapshot store(Long tournamentId, Snapshot s) {
+        synchronized (snapshots) {
+            Snapshot old = snapshots.get(tournamentId);
+            if (old != null && old.version >= s.version) {
+                return old;
+            }
+            snapshots.put(tournamentId, s);
+            storedBytes += s.bytes - (old != null ? old.bytes : 0);
+            while (storedBytes > maxBytes && snapshots.size() > 1) {
+                Long coldest = null;
+                long coldestRead = Long.MAX_VALUE;
+                for (Map.Entry<Long, Snapshot> e : snapshots.entrySet()) {
+                    if (!e.getKey().equals(tournamentId) && e.getValue().lastRead - coldestRead < 0) {
+                        coldest = e.getKey();
+                        coldestRead = e.getValue().lastRead;
+                    }
+                }
+                storedBytes -= snapshots.remove(coldest).bytes;
+            }
+            return s;
+        }
+    }
+
+    private void remove(Long tournamentId) {
+        synchronized (snapshots) {
+            Snapshot old = snapshots.remove(tournamentId);
+            if (old != null) {
+                storedBytes -= old.bytes;
+            }
+        }
+    }
+
+    private Snapshot build(Long tournamentId) {
+        long version = versions.incrementAndGet();
+        // rebuilt right after a commit, which a replica may not have applied yet
+        return ReadReplicaDataSource.onPrimary(() -> readOnlyTx.execute(status -> {
+            Tournament t = tournamentRepository.findById(tournamentId).orElse(null);
+            if (t == null) {
+                return null;
+            }
+            List<PublicTeamResponse> teams = new ArrayList<>();
+            for (Team team : teamRepository.findByTournamentOrderByNameAsc(t)) {
+                teams.add(TeamService.toPublicResponse(team));
+            }
+            List<Division> divisions = divisionRepository.findByTournamentOrderByNameAscIdAsc(t);
+            Map<Long, List<MatchResponse>> matchesByDivision = new HashMap<>();
+            for (Match m : matchRepository.findByTournamentWithTeams(t)) {
+                matchesByDivision.computeIfAbsent(m.getDivision().getId(), id -> new ArrayList<>())
+                        .add(ScheduleService.toResponse(m));
+            }
+
+            List<DivisionResponse> divisionResponses = new ArrayList<>(divisions.size());
+            Map<Long, Json> matches = new HashMap<>();
+            Map<Long, Json> standings = new HashMap<>();
+            for (Division d : divisions) {
+                divisionResponses.add(DivisionService.toResponse(d));
+                matches.put(d.getId(), json(matchesByDivision.getOrDefault(d.getId(), List.of())));
+                standings.put(d.getId(), json(standingsService.snapshot(d.getId())));
+            }
+            return new Snapshot(version, json(toResponse(t)), json(teams), json(divisionResponses),
+                    Map.copyOf(matches), Map.copyOf(standings));
+        }));
+    }
+
+    private Index index() {
+        Index i = index;
+        if (i == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = loadIndex();
+                }
+                i = index;
+            }
+        }
+        return i;
+    }
+
+    private void scheduleIndex() {
+        if (indexQueued.compareAndSet(false, true)) {
+            rebuilder.schedule(() -> {
+                indexQueued.set(false);
+                try {
+                    Index i = loadIndex();
+                    synchronized (this) {
+                        index = i;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Public tournament index reload failed", e);
+                }
+            }, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Index loadIndex() {
+        return ReadReplicaDataSource.onPrimary(() -> readOnlyTx.execute(status -> {
+            List<TournamentResponse> list = new ArrayList<>();
+            Set<Long> ids = new HashSet<>();
+            for (Tournament t : tournamentRepository.findAllByOrderByStartDateAscIdAsc()) {
+                list.add(toResponse(t));
+                ids.add(t.getId());
+            }
+            Map<Long, Long> divisionTournament = new HashMap<>();
+            for (Object[] row : divisionRepository.findAllTournamentIds()) {
+                divisionTournament.put((Long) row[0], (Long) row[1]);
+            }
+            return new Index(json(list), Set.copyOf(ids), Map.copyOf(divisionTournament));
+        }));
+    }
+
+    private static TournamentResponse toResponse(Tournament t) {
+        return new TournamentResponse(t.getId(), t.getTitle(), t.getPrimaryVenue(), t.getStartDate(), t.getCreatedAt());
+    }
+
+    private Json json(Object value) {
+        try {
+            return new Json(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize public snapshot", e);
+        }
+    }
+
+    /** A serialized response body and its strong ETag. */
+    public static final class Json {
+
+        private final byte[] bytes;
+        private final String etag;
+
+        Json(byte[] bytes) {
+            this.bytes = bytes;
+            this.etag = etag(bytes);
+        }
+
+        // shared, never written to
+        public byte[] bytes() {
+            return bytes;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        // same bytes, same tag, so an unchanged part of a rebuilt snapshot still answers 304
+        static String etag(byte[] bytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class Snapshot {
+
+        final long version;
+        final Json tournament;
+        final Json teams;
+        final Json divisions;
+        final Map<Long, Json> matches;
+        final Map<Long, Json> standings;
+        final long bytes;
+        // System.nanoTime() of the last request served from it
+        volatile long lastRead = System.nanoTime();
+
+        Snapshot(long version, Json tournament, Json teams, Json divisions,
+                 Map<Long, Json> matches, Map<Long, Json> standings) {
+            this.version = version;
+            this.tournament = tournament;
+            this.teams = teams;
+            this.divisions = divisions;
+            this.matches = matches;
+            this.standings = standings;
+            long size = tournament.bytes.length + teams.bytes.length + divisions.bytes.length;
+            for (Json j : matches.values()) {
+                size += j.bytes.length;
+            }
+            for (Json j : standings.values()) {
+                size += j.bytes.length;
+            }
+            this.bytes = size;
+        }
+    }
+
+    private static final class Index {
+
+        final Json tournaments;
+        final Set<Long> tournamentIds;
+        final Map<Long, Long> divisionTournament;
+
+        Index(Json tournaments, Set<Long> tournamentIds, Map<Long, Long> divisionTournament) {
+            this.tournaments = tournaments;
+            this.tournamentIds = tournamentIds;
+            this.divisionTournament = divisionTournament;
+        }
+    }
+}
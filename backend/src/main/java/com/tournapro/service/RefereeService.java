@@ -1,15 +1,14 @@
 package com.tournapro.service;
 
 import com.tournapro.dto.CreateRefereeRequest;
+import com.tournapro.dto.CursorPage;
 import com.tournapro.dto.RefereeResponse;
 import com.tournapro.entity.Referee;
 import com.tournapro.entity.Tournament;
-import com.tournapro.entity.User;
 import com.tournapro.repository.RefereeRepository;
-import com.tournapro.repository.TournamentRepository;
-import com.tournapro.repository.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,33 +19,25 @@ import java.util.stream.Collectors;
 public class RefereeService {
 
     private final RefereeRepository refereeRepository;
-    private final TournamentRepository tournamentRepository;
-    private final UserRepository userRepository;
+    private final TournamentAccessService accessService;
+    private final ResponseCache responseCache;
+    private final DataVersionService dataVersions;
+    private final AuditService audit;
 
     public RefereeService(RefereeRepository refereeRepository,
-                          TournamentRepository tournamentRepository,
-                          UserRepository userRepository) {
+                          TournamentAccessService accessService,
+                          ResponseCache responseCache,
+                          DataVersionService dataVersions,
+                          AuditService audit) {
         this.refereeRepository = refereeRepository;
-        this.tournamentRepository = tournamentRepository;
-        this.userRepository = userRepository;
-    }
-
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        this.accessService = accessService;
+        this.responseCache = responseCache;
+        this.dataVersions = dataVersions;
+        this.audit = audit;
     }
 
     private Tournament getOwnedTournament(Long tournamentId) {
-        Tournament t = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
-
-        User current = getCurrentUser();
-        if (!t.getOwner().getId().equals(current.getId())) {
-            throw new IllegalStateException("You do not own this tournament");
-        }
-        return t;
+        return accessService.getOwnedTournament(tournamentId);
     }
 
     @Transactional
@@ -61,25 +52,25 @@ public class RefereeService {
         r.setRole(request.getRole());
 
         Referee saved = refereeRepository.save(r);
-        return toResponse(saved);
+        dataVersions.changed(tournamentId);
+        return audited(tournamentId, saved, AuditService.CREATE);
     }
 
     @Transactional
     public List<RefereeResponse> bulkCreate(Long tournamentId, List<CreateRefereeRequest> requests) {
         Tournament tournament = getOwnedTournament(tournamentId);
 
-        List<Referee> refs = requests.stream().map(req -> {
-            Referee r = new Referee();
-            r.setTournament(tournament);
-            r.setName(req.getName());
-            r.setEmail(req.getEmail());
-            r.setPhone(req.getPhone());
-            r.setRole(req.getRole());
-            return r;
-        }).collect(Collectors.toList());
+        List<Referee> refs = requests.stream()
+                .map(req -> newReferee(tournament, req))
+                .collect(Collectors.toList());
 
         List<Referee> saved = refereeRepository.saveAll(refs);
-        return saved.stream().map(this::toResponse).collect(Collectors.toList());
+        List<RefereeResponse> responses = saved.stream().map(this::toResponse).collect(Collectors.toList());
+        if (!responses.isEmpty()) {
+            dataVersions.changed(tournamentId);
+            audit.record(tournamentId, AuditService.REFEREE, null, AuditService.CREATE, responses);
+        }
+        return responses;
     }
 
     @Transactional(readOnly = true)
@@ -91,6 +82,43 @@ public class RefereeService {
                 .collect(Collectors.toList());
     }
 
+    // listReferees as JSON, cached per data version (DataVersionService.version, read for the ETag)
+    public byte[] listRefereesJson(Long tournamentId, Long dataVersion) {
+        getOwnedTournament(tournamentId);
+        return responseCache.get(ResponseCache.tournament(tournamentId), "referees", dataVersion, () -> listReferees(tournamentId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<RefereeResponse> listRefereesPaged(Long tournamentId, int page, int size) {
+        Tournament tournament = getOwnedTournament(tournamentId);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), KeysetCursor.clampSize(size),
+                Sort.by("name").ascending().and(Sort.by("id").ascending()));
+        return refereeRepository.findByTournament(tournament, pageable).map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<RefereeResponse> listRefereesAfter(Long tournamentId, String cursor, int size, boolean includeTotal) {
+        Tournament tournament = getOwnedTournament(tournamentId);
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+        List<Referee> rows = after == null
+                ? refereeRepository.findByTournamentOrderByNameAscIdAsc(tournament, fetch)
+                : refereeRepository.findPageAfter(tournament, after.getKey(), after.getId(), fetch);
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Referee last = rows.get(limit - 1);
+            next = KeysetCursor.encode(last.getName(), last.getId());
+        }
+
+        Long total = includeTotal ? refereeRepository.countByTournament(tournament) : null;
+        List<RefereeResponse> content = rows.stream().map(this::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(content, next, total);
+    }
+
     @Transactional
     public RefereeResponse updateReferee(Long tournamentId, Long refereeId, CreateRefereeRequest request) {
         Tournament tournament = getOwnedTournament(tournamentId);
@@ -108,7 +136,8 @@ public class RefereeService {
         r.setRole(request.getRole());
 
         Referee saved = refereeRepository.save(r);
-        return toResponse(saved);
+        dataVersions.changed(tournamentId);
+        return audited(tournamentId, saved, AuditService.UPDATE);
     }
 
     @Transactional
@@ -122,7 +151,26 @@ public class RefereeService {
             throw new IllegalStateException("Referee not part of this tournament");
         }
 
+        audit.record(tournamentId, AuditService.REFEREE, refereeId, AuditService.DELETE, toResponse(r));
         refereeRepository.delete(r);
+        dataVersions.changed(tournamentId);
+    }
+
+    private RefereeResponse audited(Long tournamentId, Referee r, String action) {
+        RefereeResponse response = toResponse(r);
+        audit.record(tournamentId, AuditService.REFEREE, r.getId(), action, response);
+        return response;
+    }
+
+    // shared with the streaming roster import
+    static Referee newReferee(Tournament tournament, CreateRefereeRequest req) {
+        Referee r = new Referee();
+        r.setTournament(tournament);
+        r.setName(req.getName());
+        r.setEmail(req.getEmail());
+        r.setPhone(req.getPhone());
+        r.setRole(req.getRole());
+        return r;
     }
 
     private RefereeResponse toResponse(Referee r) {
@@ -0,0 +1,179 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournapro.config.ReadReplicaDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of hot GET responses, so an unchanged list is neither reloaded nor
+ * re-serialized. Entries belong to a scope (a tournament, or the tournaments of one owner) whose
+ * version is bumped after every committed change to it; an entry made at an older version is a
+ * miss and is replaced. Entries are evicted least recently used first once their bytes pass
+ * {@code cache.response.max-bytes}.
+ *
+ * The version is read before the data is loaded, so a load racing a commit can only store old
+ * data under the old version, which the bump has already made unreachable. Scope versions live in
+ * this instance only, so a change committed on another instance is not seen here; such entries
+ * therefore also expire after {@code cache.response.local-ttl-ms}. Lists that have an ETag pass in
+ * the database version the ETag is made from instead, see {@link #get(String, String, Long, Supplier)};
+ * those entries do not expire.
+ */
+@Component
+public class ResponseCache {
+
+    private final ObjectMapper objectMapper;
+    // null in unit tests, where loaders run as they are
+    private final TransactionTemplate readOnlyTx;
+    private final long maxBytes;
+    private final long localTtlNanos;
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    // access order: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+
+    @Autowired
+    public ResponseCache(ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${cache.response.max-bytes:33554432}") long maxBytes,
+                         @Value("${cache.response.local-ttl-ms:5000}") long localTtlMs) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.maxBytes = maxBytes;
+        this.localTtlNanos = TimeUnit.MILLISECONDS.toNanos(localTtlMs);
+    }
+
+    ResponseCache(ObjectMapper objectMapper, long maxBytes) {
+        this(objectMapper, maxBytes, 5000);
+    }
+
+    ResponseCache(ObjectMapper objectMapper, long maxBytes, long localTtlMs) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = null;
+        this.maxBytes = maxBytes;
+        this.localTtlNanos = TimeUnit.MILLISECONDS.toNanos(localTtlMs);
+    }
+
+    public static String tournament(Long tournamentId) {
+        return "tournament:" + tournamentId;
+    }
+
+    public static String owner(Long userId) {
+        return "owner:" + userId;
+    }
+
+    /**
+     * The cached JSON of {@code resource} in {@code scope}, or the serialized result of
+     * {@code loader}, which is then cached for at most {@code cache.response.local-ttl-ms}.
+     * Callers check access first; the cache does not.
+     * The loader runs in a read-only transaction on the primary. Callers must not hold a
+     * transaction of their own, or the loader joins it and reads wherever that one does.
+     */
+    public byte[] get(String scope, String resource, Supplier<?> loader) {
+        return get(scope + "/" + resource, version(scope).get(), System.nanoTime() + localTtlNanos, loader);
+    }
+
+    /**
+     * Like {@link #get(String, String, Supplier)}, but keyed on a version the caller read from the
+     * database, e.g. the tournament data version its ETag is made from. ETag and body then come
+     * from the same version on every instance, with no window after a commit. A null version
+     * (nothing to key on) loads without caching.
+     */
+    public byte[] get(String scope, String resource, Long dataVersion, Supplier<?> loader) {
+        if (dataVersion == null) {
+            return serialize(ReadReplicaDataSource.onPrimary(() -> load(loader)));
+        }
+        return get(scope + "/" + resource, dataVersion, Long.MAX_VALUE, loader);
+    }
+
+    // expiresAt is a System.nanoTime() deadline, Long.MAX_VALUE for none
+    private byte[] get(String key, long version, long expiresAt, Supplier<?> loader) {
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && e.version == version && (e.expiresAt == Long.MAX_VALUE || System.nanoTime() - e.expiresAt < 0)) {
+                return e.json;
+            }
+        }
+        // from the primary: a lagging replica would store old data under the new version
+        byte[] json = serialize(ReadReplicaDataSource.onPrimary(() -> load(loader)));
+        put(key, new Entry(version, expiresAt, json));
+        return json;
+    }
+
+    private Object load(Supplier<?> loader) {
+        return readOnlyTx != null ? readOnlyTx.execute(status -> loader.get()) : loader.get();
+    }
+
+    // after commit, or at once outside a transaction
+    public void changed(String scope) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version(scope).incrementAndGet();
+                }
+            });
+        } else {
+            version(scope).incrementAndGet();
+        }
+    }
+
+    private AtomicLong version(String scope) {
+        return versions.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        if (entry.json.length > maxBytes) {
+            return;
+        }
+        Entry old = entries.get(key);
+        if (old != null && old.version > entry.version) {
+            return;
+        }
+        Entry replaced = entries.put(key, entry);
+        if (replaced != null) {
+            bytes -= replaced.json.length;
+        }
+        bytes += entry.json.length;
+        for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator(); bytes > maxBytes && it.hasNext(); ) {
+            bytes -= it.next().getValue().json.length;
+            it.remove();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize response", e);
+        }
+    }
+
+    private static final class Entry {
+
+        final long version;
+        final long expiresAt;
+        final byte[] json;
+
+        Entry(long version, long expiresAt, byte[] json) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package com.tournapro.service;
+
+import com.tournapro.config.WorkerThreads;
+import com.tournapro.dto.CreatePlayerRequest;
+import com.tournapro.dto.CreateRefereeRequest;
+import com.tournapro.dto.CreateTeamRequest;
+import com.tournapro.dto.ImportJobResponse;
+import com.tournapro.dto.ImportRowError;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.entity.User;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.metrics.MetricsRegistry;
+import com.tournapro.repository.PlayerRepository;
+import com.tournapro.repository.RefereeRepository;
+import com.tournapro.repository.TeamRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming CSV import of teams, players and referees.
+ *
+ * The upload is spooled to a temp file and processed in the background one row at a time: each row
+ * is validated against the same constraints as the JSON endpoints and valid rows are committed in
+ * chunks of {@code import.chunk-size}, each in its own transaction. A chunk that fails to save is
+ * retried row by row so a single bad row never rolls back the rest of the file. Progress and
+ * per-row errors are exposed as a job resource.
+ */
+@Service
+public class RosterImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final long JOB_RETENTION_MINUTES = 60;
+
+    // common spreadsheet headings mapped to our field names (after normalization)
+    private static final Map<String, String> HEADER_ALIASES = Map.of(
+            "dateofbirth", "dob",
+            "birthdate", "dob",
+            "jersey", "number",
+            "jerseynumber", "number",
+            "shirtnumber", "number",
+            "teamname", "name",
+            "fullname", "name"
+    );
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final RefereeRepository refereeRepository;
+    private final TournamentAccessService accessService;
+    private final PlayerService playerService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersionService dataVersions;
+    private final ApplicationEventPublisher events;
+    private final AuditService audit;
+    private final MetricsRegistry metrics;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public RosterImportService(TeamRepository teamRepository,
+                               PlayerRepository playerRepository,
+                               RefereeRepository refereeRepository,
+                               TournamentAccessService accessService,
+                               PlayerService playerService,
+                               Validator validator,
+                               PlatformTransactionManager transactionManager,
+                               DataVersionService dataVersions,
+                               ApplicationEventPublisher events,
+                               AuditService audit,
+                               MetricsRegistry metrics,
+                               WorkerThreads workerThreads,
+                               @Value("${import.chunk-size:500}") int chunkSize,
+                               @Value("${import.threads:2}") int threads,
+                               @Value("${import.queue-capacity:10}") int queueCapacity) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.refereeRepository = refereeRepository;
+        this.accessService = accessService;
+        this.playerService = playerService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataVersions = dataVersions;
+        this.events = events;
+        this.audit = audit;
+        this.metrics = metrics;
+        this.chunkSize = Math.max(1, chunkSize);
+        // import.threads still caps concurrent imports (and their connections) on virtual threads
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreads.factory("roster-import"));
+    }
+
+    public ImportJobResponse importTeams(Long tournamentId, MultipartFile file) throws IOException {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+        return start(tournamentId, "TEAMS", file,
+                RosterImportService::parseTeam,
+                r -> TeamService.newTeam(tournament, r),
+                teamRepository);
+    }
+
+    public ImportJobResponse importPlayers(Long tournamentId, Long teamId, MultipartFile file) throws IOException {
+        Team team = playerService.getTeamIfOwned(tournamentId, teamId);
+        return start(tournamentId, "PLAYERS", file,
+                RosterImportService::parsePlayer,
+                r -> PlayerService.newPlayer(team, r),
+                playerRepository);
+    }
+
+    public ImportJobResponse importReferees(Long tournamentId, MultipartFile file) throws IOException {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+        return start(tournamentId, "REFEREES", file,
+                RosterImportService::parseReferee,
+                r -> RefereeService.newReferee(tournament, r),
+                refereeRepository);
+    }
+
+    public ImportJobResponse getJob(Long tournamentId, String jobId) {
+        accessService.getOwnedTournament(tournamentId);
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.tournamentId.equals(tournamentId)) {
+            throw new NoSuchElementException("Import job not found: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private <R, E> ImportJobResponse start(Long tournamentId, String type, MultipartFile file,
+                                           Function<CsvRow, R> parser,
+                                           Function<R, E> toEntity,
+                                           JpaRepository<E, Long> repository) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Empty file upload");
+        }
+        purgeOldJobs();
+
+        // spool to disk: the multipart part is gone once the request completes
+        Path csv = Files.createTempFile("roster-import-", ".csv");
+        file.transferTo(csv);
+
+        // the worker thread has no security context, so the audit actor is taken here
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), tournamentId, type,
+                accessService.getCurrentUser(), rowCounter(type, "imported"), rowCounter(type, "failed"));
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, csv, parser, toEntity, repository));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            Files.deleteIfExists(csv);
+            throw new IllegalStateException("Too many imports in progress, try again later");
+        }
+        return job.toResponse();
+    }
+
+    private <R, E> void run(ImportJob job, Path csv,
+                            Function<CsvRow, R> parser,
+                            Function<R, E> toEntity,
+                            JpaRepository<E, Long> repository) {
+        job.status = "RUNNING";
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRow();
+            if (header == null) {
+                job.fail("File is empty");
+                return;
+            }
+            Map<String, Integer> columns = indexHeader(header);
+            if (!columns.containsKey("name")) {
+                job.fail("Missing required column: name");
+                return;
+            }
+
+            List<R> chunk = new ArrayList<>(chunkSize);
+            List<Integer> chunkRows = new ArrayList<>(chunkSize);
+            int rowNumber = 1; // the header is row 1, like in a spreadsheet
+            List<String> values;
+            while ((values = reader.readRow()) != null) {
+                rowNumber++;
+                job.processedRows.incrementAndGet();
+
+                R request;
+                try {
+                    request = parser.apply(new CsvRow(columns, values));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    job.addError(rowNumber, e.getMessage());
+                    continue;
+                }
+
+                Set<ConstraintViolation<R>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    job.addError(rowNumber, violations.stream()
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+
+                chunk.add(request);
+                chunkRows.add(rowNumber);
+                if (chunk.size() >= chunkSize) {
+                    commitChunk(job, chunk, chunkRows, toEntity, repository);
+                }
+            }
+            commitChunk(job, chunk, chunkRows, toEntity, repository);
+            job.complete();
+        } catch (Exception e) {
+            log.warn("Import {} failed: {}", job.id, e.getMessage());
+            job.fail("Import failed: " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(csv);
+            } catch (IOException e) {
+                log.debug("Could not delete import file {}", csv);
+            }
+        }
+    }
+
+    private <R, E> void commitChunk(ImportJob job, List<R> chunk, List<Integer> chunkRows,
+                                    Function<R, E> toEntity, JpaRepository<E, Long> repository) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int imported = 0;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAll(chunk.stream().map(toEntity).collect(Collectors.toList()));
+                dataVersions.changed(job.tournamentId);
+                audited(job, chunk.size());
+            });
+            imported = chunk.size();
+        } catch (RuntimeException chunkFailure) {
+            // isolate the offending row(s): save one by one, each with fresh entities
+            for (int i = 0; i < chunk.size(); i++) {
+                R request = chunk.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        repository.save(toEntity.apply(request));
+                        dataVersions.changed(job.tournamentId);
+                        audited(job, 1);
+                    });
+                    imported++;
+                } catch (RuntimeException rowFailure) {
+                    Throwable cause = NestedExceptionUtils.getMostSpecificCause(rowFailure);
+                    job.addError(chunkRows.get(i), "Not saved: " + cause.getMessage());
+                }
+            }
+        }
+        job.imported(imported);
+        // one event per chunk, after its commit; referees are not on the public feeds
+        if (imported > 0 && !"REFEREES".equals(job.type)) {
+            events.publishEvent(new TournamentChangeEvent(job.tournamentId, TournamentChangeEvent.ROSTER_UPDATE,
+                    null, TournamentChangeEvent.rosterChanged(imported)));
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    // one entry per committed chunk (per row when a chunk is retried row by row), in its transaction
+    private void audited(ImportJob job, int rows) {
+        audit.record(job.actor, job.tournamentId, auditEntityType(job.type), null, AuditService.CREATE,
+                Map.of("importJob", job.id, "count", rows));
+    }
+
+    private static String auditEntityType(String jobType) {
+        switch (jobType) {
+            case "TEAMS":
+                return AuditService.TEAM;
+            case "PLAYERS":
+                return AuditService.PLAYER;
+            default:
+                return AuditService.REFEREE;
+        }
+    }
+
+    private MetricsRegistry.Counter rowCounter(String type, String outcome) {
+        return metrics.counter("tournapro_import_rows", "Roster import rows by outcome",
+                "type", type.toLowerCase(), "outcome", outcome);
+    }
+
+    private void purgeOldJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(cutoff));
+    }
+
+    private static Map<String, Integer> indexHeader(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String key = normalizeHeader(header.get(i));
+            columns.putIfAbsent(HEADER_ALIASES.getOrDefault(key, key), i);
+        }
+        return columns;
+    }
+
+    private static String normalizeHeader(String raw) {
+        // strips a UTF-8 BOM (Excel) along with spaces, dashes and underscores
+        return raw.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    // --- row parsers ---
+
+    private static CreateTeamRequest parseTeam(CsvRow row) {
+        CreateTeamRequest r = new CreateTeamRequest();
+        r.setName(row.get("name"));
+        r.setShortName(row.get("shortname"));
+        r.setEmail(row.get("email"));
+        r.setCountry(row.get("country"));
+        r.setLogoUrl(row.get("logourl"));
+        r.setDressingRoom(row.get("dressingroom"));
+        r.setPresent(row.getBoolean("present"));
+        r.setPaid(row.getBoolean("paid"));
+        return r;
+    }
+
+    private static CreatePlayerRequest parsePlayer(CsvRow row) {
+        CreatePlayerRequest r = new CreatePlayerRequest();
+        r.setName(row.get("name"));
+        String dob = row.get("dob");
+        if (dob != null) {
+            try {
+                r.setDob(LocalDate.parse(dob));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("dob: expected yyyy-MM-dd but was '" + dob + "'");
+            }
+        }
+        String number = row.get("number");
+        if (number != null) {
+            try {
+                r.setNumber(Integer.valueOf(number));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("number: not a whole number '" + number + "'");
+            }
+        }
+        return r;
+    }
+
+    private static CreateRefereeRequest parseReferee(CsvRow row) {
+        CreateRefereeRequest r = new CreateRefereeRequest();
+        r.setName(row.get("name"));
+        r.setEmail(row.get("email"));
+        r.setPhone(row.get("phone"));
+        r.setRole(row.get("role"));
+        return r;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * One CSV record addressed by normalized column name.
+     */
+    static final class CsvRow {
+        private final Map<String, Integer> columns;
+        private final List<String> values;
+
+        CsvRow(Map<String, Integer> columns, List<String> values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        // trimmed value, or null when the column is missing or blank
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        Boolean getBoolean(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "y", "1", "x":
+                    return true;
+                case "false", "no", "n", "0":
+                    return false;
+                default:
+                    throw new IllegalArgumentException(column + ": expected yes/no but was '" + value + "'");
+            }
+        }
+    }
+
+    private static final class ImportJob {
+        private final String id;
+        private final Long tournamentId;
+        private final String type;
+        private final User actor;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicLong processedRows = new AtomicLong();
+        private final AtomicLong importedRows = new AtomicLong();
+        private final AtomicLong failedRows = new AtomicLong();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private final MetricsRegistry.Counter importedCounter;
+        private final MetricsRegistry.Counter failedCounter;
+        private volatile String status = "PENDING";
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id, Long tournamentId, String type, User actor,
+                          MetricsRegistry.Counter importedCounter, MetricsRegistry.Counter failedCounter) {
+            this.id = id;
+            this.tournamentId = tournamentId;
+            this.type = type;
+            this.actor = actor;
+            this.importedCounter = importedCounter;
+            this.failedCounter = failedCounter;
+        }
+
+        private void imported(int rows) {
+            importedRows.addAndGet(rows);
+            importedCounter.increment(rows);
+        }
+
+        private void addError(int row, String message) {
+            failedRows.incrementAndGet();
+            failedCounter.increment();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ImportRowError(row, message));
+                }
+            }
+        }
+
+        private void complete() {
+            finishedAt = LocalDateTime.now();
+            status = "COMPLETED";
+        }
+
+        private void fail(String message) {
+            synchronized (errors) {
+                errors.add(new ImportRowError(0, message));
+            }
+            finishedAt = LocalDateTime.now();
+            status = "FAILED";
+        }
+
+        private ImportJobResponse toResponse() {
+            List<ImportRowError> snapshot;
+            synchronized (errors) {
+                snapshot = new ArrayList<>(errors);
+            }
+            return new ImportJobResponse(id, type, status, processedRows.get(), importedRows.get(),
+                    failedRows.get(), snapshot, createdAt, finishedAt);
+        }
+    }
+}
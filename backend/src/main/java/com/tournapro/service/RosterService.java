@@ -0,0 +1,61 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.PlayerResponse;
+import com.tournapro.dto.TeamRosterResponse;
+import com.tournapro.entity.Player;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.repository.PlayerRepository;
+import com.tournapro.repository.TeamRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a tournament's full roster (every team with its players) from two queries: one for the
+ * teams and one for all of the tournament's players, grouped by team id in memory.
+ */
+@Service
+public class RosterService {
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final TournamentAccessService accessService;
+
+    public RosterService(TeamRepository teamRepository,
+                         PlayerRepository playerRepository,
+                         TournamentAccessService accessService) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.accessService = accessService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TeamRosterResponse> getRoster(Long tournamentId) {
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+
+        List<Team> teams = teamRepository.findByTournamentOrderByNameAsc(tournament);
+        Map<Long, List<PlayerResponse>> playersByTeam = new HashMap<>(teams.size() * 2);
+        for (Team t : teams) {
+            playersByTeam.put(t.getId(), new ArrayList<>());
+        }
+
+        // team is lazy: getId() on the proxy does not load it
+        for (Player p : playerRepository.findByTournamentId(tournamentId)) {
+            List<PlayerResponse> players = playersByTeam.get(p.getTeam().getId());
+            if (players != null) {
+                players.add(PlayerService.toResponse(p));
+            }
+        }
+
+        List<TeamRosterResponse> roster = new ArrayList<>(teams.size());
+        for (Team t : teams) {
+            roster.add(new TeamRosterResponse(TeamService.toResponse(t), playersByTeam.get(t.getId())));
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,137 @@
+package com.tournapro.service;
+
+/**
+ * Round-robin fixture generation with the circle (Berger) method.
+ *
+ * Works on team indices 0..n-1 and returns the fixtures as flat int arrays, so a division of a
+ * few hundred teams (tens of thousands of fixtures) is generated without per-fixture objects.
+ * With an odd number of teams a phantom team is added and whoever meets it has a bye that round;
+ * byes are not emitted. Every team plays once per round, and its home and away counts differ by
+ * at most one (exactly equal in a double round-robin, where the second leg mirrors the first).
+ */
+public final class RoundRobinScheduler {
+
+    private RoundRobinScheduler() {}
+
+    /** Generated fixtures; entry i is played in round(i) (1-based) between home(i) and away(i). */
+    public static final class Fixtures {
+
+        private final int[] round;
+        private final int[] home;
+        private final int[] away;
+        private final int rounds;
+
+        Fixtures(int[] round, int[] home, int[] away, int rounds) {
+            this.round = round;
+            this.home = home;
+            this.away = away;
+            this.rounds = rounds;
+        }
+
+        public int size() {
+            return round.length;
+        }
+
+        public int rounds() {
+            return rounds;
+        }
+
+        public int round(int i) {
+            return round[i];
+        }
+
+        public int home(int i) {
+            return home[i];
+        }
+
+        public int away(int i) {
+            return away[i];
+        }
+    }
+
+    public static Fixtures generate(int teamCount, boolean doubleRoundRobin) {
+        if (teamCount < 0) {
+            throw new IllegalArgumentException("teamCount must not be negative");
+        }
+        if (teamCount < 2) {
+            return new Fixtures(new int[0], new int[0], new int[0], 0);
+        }
+
+        // m is even; with an odd field the fixed slot (index m - 1) is the phantom "bye" team
+        int m = (teamCount & 1) == 0 ? teamCount : teamCount + 1;
+        int roundsPerLeg = m - 1;
+        int perLeg = teamCount * (teamCount - 1) / 2;
+        int total = doubleRoundRobin ? perLeg * 2 : perLeg;
+
+        int[] round = new int[total];
+        int[] home = new int[total];
+        int[] away = new int[total];
+        int k = 0;
+
+        int fixed = m - 1;
+        for (int r = 0; r < roundsPerLeg; r++) {
+            // pair 0: rotating team r against the fixed slot, alternating home by round
+            if (fixed < teamCount) {
+                boolean rotatingHome = (r & 1) == 1;
+                round[k] = r + 1;
+                home[k] = rotatingHome ? r : fixed;
+                away[k] = rotatingHome ? fixed : r;
+                k++;
+            }
+            // remaining pairs: (r + i) hosts (r - i) on the circle of the m - 1 rotating teams
+            for (int i = 1; i < m / 2; i++) {
+                int a = (r + i) % roundsPerLeg;
+                int b = (r - i + roundsPerLeg) % roundsPerLeg;
+                round[k] = r + 1;
+                home[k] = a;
+                away[k] = b;
+                k++;
+            }
+        }
+
+        if (doubleRoundRobin) {
+            for (int i = 0; i < perLeg; i++) {
+                round[k] = round[i] + roundsPerLeg;
+                home[k] = away[i];
+                away[k] = home[i];
+                k++;
+            }
+        }
+
+        return new Fixtures(round, home, away, doubleRoundRobin ? roundsPerLeg * 2 : roundsPerLeg);
+    }
+
+    /**
+     * Splits seeds 0..teamCount-1 into groups by snake order (1-8-9-16 / 2-7-10-15 ...), so every
+     * group gets a comparable spread of seeds. Returns the seeds of each group in seed order.
+     */
+    public static int[][] snakeGroups(int teamCount, int groupCount) {
+        if (groupCount < 1) {
+            throw new IllegalArgumentException("groups must be at least 1");
+        }
+        if (groupCount > teamCount) {
+            throw new IllegalArgumentException("Cannot split " + teamCount + " teams into " + groupCount + " groups");
+        }
+
+        int[] sizes = new int[groupCount];
+        int[] groupOf = new int[teamCount];
+        for (int seed = 0; seed < teamCount; seed++) {
+            int row = seed / groupCount;
+            int col = seed % groupCount;
+            int g = (row & 1) == 0 ? col : groupCount - 1 - col;
+            groupOf[seed] = g;
+            sizes[g]++;
+        }
+
+        int[][] groups = new int[groupCount][];
+        for (int g = 0; g < groupCount; g++) {
+            groups[g] = new int[sizes[g]];
+            sizes[g] = 0;
+        }
+        for (int seed = 0; seed < teamCount; seed++) {
+            int g = groupOf[seed];
+            groups[g][sizes[g]++] = seed;
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,153 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.GenerateScheduleRequest;
+import com.tournapro.dto.MatchResponse;
+import com.tournapro.dto.ScheduleResponse;
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Team;
+import com.tournapro.repository.MatchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a division's fixtures (league or group stage) with {@link RoundRobinScheduler} and
+ * replaces the division's existing matches with them.
+ */
+@Service
+public class ScheduleService {
+
+    public static final String BRACKET_ROUND_ROBIN = "ROUND_ROBIN";
+    public static final String BRACKET_GROUP = "GROUP";
+
+    // matches persisted per flush; a multiple of hibernate.jdbc.batch_size
+    private static final int FLUSH_EVERY = 500;
+
+    private final MatchRepository matchRepository;
+    private final DivisionService divisionService;
+    private final StandingsService standingsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ScheduleService(MatchRepository matchRepository,
+                           DivisionService divisionService,
+                           StandingsService standingsService) {
+        this.matchRepository = matchRepository;
+        this.divisionService = divisionService;
+        this.standingsService = standingsService;
+    }
+
+    @Transactional
+    public ScheduleResponse generateSchedule(Long tournamentId, Long divisionId, GenerateScheduleRequest request) {
+        Division division = divisionService.getOwnedDivision(tournamentId, divisionId);
+
+        // seed order: name, then id, so regenerating an unchanged division gives the same fixtures
+        List<Team> teams = new ArrayList<>(division.getTeams());
+        teams.sort(Comparator.comparing(Team::getName).thenComparing(Team::getId));
+
+        int groups = request != null && request.getGroups() != null ? request.getGroups() : 1;
+        boolean doubleRoundRobin = request != null && Boolean.TRUE.equals(request.getDoubleRoundRobin());
+        String venue = request != null && request.getVenue() != null && !request.getVenue().isBlank()
+                ? request.getVenue().trim()
+                : division.getTournament().getPrimaryVenue();
+
+        if (teams.size() < 2 * groups) {
+            throw new IllegalArgumentException("Need at least 2 teams per group: "
+                    + teams.size() + " teams, " + groups + " groups");
+        }
+
+        // this also drops any elimination bracket built on the previous schedule
+        matchRepository.deleteByDivision(division);
+        division.setBracketFormat(null);
+        division.setBracketEntrants(null);
+
+        int[][] seedsByGroup = RoundRobinScheduler.snakeGroups(teams.size(), groups);
+        String bracketType = groups > 1 ? BRACKET_GROUP : BRACKET_ROUND_ROBIN;
+        int rounds = 0;
+        int written = 0;
+
+        for (int g = 0; g < groups; g++) {
+            int[] seeds = seedsByGroup[g];
+            String label = groups > 1 ? groupLabel(g) : null;
+            RoundRobinScheduler.Fixtures fixtures = RoundRobinScheduler.generate(seeds.length, doubleRoundRobin);
+            rounds = Math.max(rounds, fixtures.rounds());
+
+            for (int i = 0; i < fixtures.size(); i++) {
+                Match m = new Match();
+                m.setTournament(division.getTournament());
+                m.setDivision(division);
+                m.setRound(fixtures.round(i));
+                m.setGroupLabel(label);
+                m.setHomeTeam(teams.get(seeds[fixtures.home(i)]));
+                m.setAwayTeam(teams.get(seeds[fixtures.away(i)]));
+                m.setVenue(venue);
+                m.setBracketType(bracketType);
+                entityManager.persist(m);
+
+                // keep the persistence context small on large divisions
+                if (++written % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        standingsService.evictDivision(divisionId);
+        divisionService.published(division);
+
+        return new ScheduleResponse(divisionId, groups, rounds, written);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MatchResponse> getMatches(Long tournamentId, Long divisionId) {
+        Division division = divisionService.getOwnedDivision(tournamentId, divisionId);
+        return matchRepository.findByDivisionWithTeams(division)
+                .stream()
+                .map(ScheduleService::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    // A..Z, then AA, AB, ...
+    static String groupLabel(int index) {
+        StringBuilder sb = new StringBuilder();
+        int n = index;
+        do {
+            sb.insert(0, (char) ('A' + n % 26));
+            n = n / 26 - 1;
+        } while (n >= 0);
+        return sb.toString();
+    }
+
+    static MatchResponse toResponse(Match m) {
+        Team home = m.getHomeTeam();
+        Team away = m.getAwayTeam();
+        return new MatchResponse(
+                m.getId(),
+                m.getDivision().getId(),
+                m.getRound(),
+                m.getGroupLabel(),
+                home != null ? home.getId() : null,
+                home != null ? home.getName() : null,
+                away != null ? away.getId() : null,
+                away != null ? away.getName() : null,
+                m.getVenue(),
+                m.getPitch(),
+                m.getReferee() != null ? m.getReferee().getId() : null,
+                m.getReferee() != null ? m.getReferee().getName() : null,
+                m.getBracketType(),
+                m.getScheduledTime(),
+                m.getHomeScore(),
+                m.getAwayScore(),
+                m.getStatus().name()
+        );
+    }
+}
@@ -0,0 +1,250 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.AssignSlotsRequest;
+import com.tournapro.dto.AssignSlotsResponse;
+import com.tournapro.dto.RefereeAvailability;
+import com.tournapro.dto.TimeWindow;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Referee;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.MatchRepository;
+import com.tournapro.repository.RefereeRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Places a tournament's unplayed matches into time slots, pitches and referees using
+ * {@link SlotScheduler}, then writes the result back to the matches.
+ */
+@Service
+public class SlotScheduleService {
+
+    // guards against windows/slot lengths that would build enormous grids
+    private static final int MAX_SLOTS = 5_000;
+
+    private final MatchRepository matchRepository;
+    private final RefereeRepository refereeRepository;
+    private final TournamentAccessService accessService;
+    private final ApplicationEventPublisher events;
+    private final int restarts;
+    private final long timeBudgetMillis;
+    // local search is CPU-bound: a pool of its own, so schedules never occupy the shared common pool
+    private final ThreadPoolExecutor searchExecutor;
+
+    public SlotScheduleService(MatchRepository matchRepository,
+                               RefereeRepository refereeRepository,
+                               TournamentAccessService accessService,
+                               ApplicationEventPublisher events,
+                               @Value("${schedule.search.restarts:0}") int restarts,
+                               @Value("${schedule.search.time-budget-ms:2000}") long timeBudgetMillis,
+                               @Value("${schedule.search.threads:0}") int threads,
+                               @Value("${schedule.search.queue-capacity:64}") int queueCapacity) {
+        this.matchRepository = matchRepository;
+        this.refereeRepository = refereeRepository;
+        this.accessService = accessService;
+        this.events = events;
+        // 0 = half the cores, leaving the rest to requests
+        int searchThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // 0 = one local-search restart per search thread
+        this.restarts = restarts > 0 ? restarts : searchThreads;
+        this.timeBudgetMillis = timeBudgetMillis;
+        AtomicInteger counter = new AtomicInteger();
+        this.searchExecutor = new ThreadPoolExecutor(searchThreads, searchThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "slot-search-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    @Transactional
+    public AssignSlotsResponse assignSlots(Long tournamentId, AssignSlotsRequest request) {
+        long started = System.nanoTime();
+        Tournament tournament = accessService.getOwnedTournament(tournamentId);
+
+        int slotMinutes = request.getSlotMinutes();
+        int minRest = request.getMinRestMinutes() != null ? request.getMinRestMinutes() : slotMinutes;
+        List<LocalDateTime> slotTimes = buildSlots(request.getWindows(), slotMinutes);
+        List<String> pitches = pitchNames(request.getPitches());
+
+        List<Match> matches = new ArrayList<>(matchRepository.findForScheduling(tournament, Match.Status.SCHEDULED));
+        if (request.getDivisionIds() != null && !request.getDivisionIds().isEmpty()) {
+            Set<Long> wanted = new HashSet<>(request.getDivisionIds());
+            matches.removeIf(m -> !wanted.contains(m.getDivision().getId()));
+        }
+
+        List<Referee> referees = Boolean.FALSE.equals(request.getAssignReferees())
+                ? List.of()
+                : refereeRepository.findByTournamentOrderByNameAsc(tournament);
+
+        // map entities to the dense indices the scheduler works on
+        LocalDateTime base = slotTimes.isEmpty() ? null : slotTimes.get(0);
+        long[] slotStart = new long[slotTimes.size()];
+        for (int s = 0; s < slotStart.length; s++) {
+            slotStart[s] = Duration.between(base, slotTimes.get(s)).toMinutes();
+        }
+
+        Map<Long, Integer> teamIndex = new HashMap<>();
+        int n = matches.size();
+        int[] home = new int[n];
+        int[] away = new int[n];
+        int[] round = new int[n];
+        for (int i = 0; i < n; i++) {
+            Match m = matches.get(i);
+            home[i] = indexOf(teamIndex, m.getHomeTeam());
+            away[i] = indexOf(teamIndex, m.getAwayTeam());
+            round[i] = m.getRound();
+        }
+
+        boolean[][] available = refereeAvailability(referees, request.getRefereeAvailability(), slotTimes, slotMinutes);
+
+        SlotScheduler.Problem problem = new SlotScheduler.Problem(teamIndex.size(), home, away, round,
+                slotStart, pitches.size(), slotMinutes, minRest, available);
+        SlotScheduler.Solution solution = SlotScheduler.solve(problem, restarts, timeBudgetMillis, tournamentId, searchExecutor);
+
+        List<Long> unscheduled = new ArrayList<>();
+        LocalDateTime first = null;
+        LocalDateTime last = null;
+        for (int i = 0; i < n; i++) {
+            Match m = matches.get(i);
+            int s = solution.slot(i);
+            if (s == SlotScheduler.NONE) {
+                m.setScheduledTime(null);
+                m.setPitch(null);
+                m.setReferee(null);
+                unscheduled.add(m.getId());
+                continue;
+            }
+            LocalDateTime time = slotTimes.get(s);
+            m.setScheduledTime(time);
+            m.setPitch(pitches.get(solution.pitch(i)));
+            m.setReferee(solution.referee(i) == SlotScheduler.NONE ? null : referees.get(solution.referee(i)));
+            if (tournament.getPrimaryVenue() != null) {
+                m.setVenue(tournament.getPrimaryVenue());
+            }
+            if (first == null || time.isBefore(first)) first = time;
+            if (last == null || time.isAfter(last)) last = time;
+        }
+        matchRepository.saveAll(matches);
+        // one event per match; the broadcaster sends them to spectators as a single frame
+        for (Match m : matches) {
+            events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.MATCH_UPDATE,
+                    m.getId(), ScheduleService.toResponse(m)));
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000L;
+        return new AssignSlotsResponse(n - unscheduled.size(), unscheduled, first, last, elapsedMs);
+    }
+
+    private static int indexOf(Map<Long, Integer> teamIndex, Team team) {
+        if (team == null) {
+            return SlotScheduler.NONE;
+        }
+        return teamIndex.computeIfAbsent(team.getId(), id -> teamIndex.size());
+    }
+
+    private static List<LocalDateTime> buildSlots(List<TimeWindow> windows, int slotMinutes) {
+        List<TimeWindow> sorted = new ArrayList<>(windows);
+        sorted.sort(Comparator.comparing(TimeWindow::getStart));
+
+        List<LocalDateTime> slots = new ArrayList<>();
+        LocalDateTime previousEnd = null;
+        for (TimeWindow w : sorted) {
+            if (!w.getEnd().isAfter(w.getStart())) {
+                throw new IllegalArgumentException("Window end must be after its start");
+            }
+            if (previousEnd != null && w.getStart().isBefore(previousEnd)) {
+                throw new IllegalArgumentException("Playing windows must not overlap");
+            }
+            previousEnd = w.getEnd();
+            for (LocalDateTime t = w.getStart(); !t.plusMinutes(slotMinutes).isAfter(w.getEnd()); t = t.plusMinutes(slotMinutes)) {
+                slots.add(t);
+                if (slots.size() > MAX_SLOTS) {
+                    throw new IllegalArgumentException("Too many time slots; use longer slots or shorter windows");
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static List<String> pitchNames(List<String> requested) {
+        Set<String> names = new LinkedHashSet<>();
+        if (requested != null) {
+            for (String p : requested) {
+                if (p != null && !p.isBlank()) {
+                    names.add(p.trim());
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            names.add("Pitch 1");
+        }
+        return new ArrayList<>(names);
+    }
+
+    // [referee][slot]: a referee without listed windows can work every slot
+    private static boolean[][] refereeAvailability(List<Referee> referees,
+                                                   List<RefereeAvailability> availability,
+                                                   List<LocalDateTime> slotTimes,
+                                                   int slotMinutes) {
+        Map<Long, List<TimeWindow>> windowsByReferee = new HashMap<>();
+        if (availability != null) {
+            Set<Long> known = new HashSet<>();
+            for (Referee r : referees) {
+                known.add(r.getId());
+            }
+            for (RefereeAvailability a : availability) {
+                if (!known.contains(a.getRefereeId())) {
+                    throw new IllegalArgumentException("Unknown referee: " + a.getRefereeId());
+                }
+                windowsByReferee.computeIfAbsent(a.getRefereeId(), id -> new ArrayList<>()).addAll(a.getWindows());
+            }
+        }
+
+        boolean[][] available = new boolean[referees.size()][slotTimes.size()];
+        for (int r = 0; r < referees.size(); r++) {
+            List<TimeWindow> windows = windowsByReferee.get(referees.get(r).getId());
+            for (int s = 0; s < slotTimes.size(); s++) {
+                available[r][s] = windows == null || covers(windows, slotTimes.get(s), slotMinutes);
+            }
+        }
+        return available;
+    }
+
+    private static boolean covers(List<TimeWindow> windows, LocalDateTime start, int slotMinutes) {
+        LocalDateTime end = start.plusMinutes(slotMinutes);
+        for (TimeWindow w : windows) {
+            if (!start.isBefore(w.getStart()) && !end.isAfter(w.getEnd())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
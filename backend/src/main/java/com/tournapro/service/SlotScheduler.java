@@ -0,0 +1,424 @@
+package com.tournapro.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Assigns matches to (time slot, pitch, referee) triples.
+ *
+ * Hard constraints: one match per pitch and slot; a team's matches start at least
+ * {@code slotLength + minRest} minutes apart (so no back-to-back games when minRest > 0); a
+ * referee only works slots inside their availability and one match at a time. Soft costs, lowest
+ * wins: unplaced matches, then later slots (keeps the day compact), a team playing a later round
+ * before an earlier one, and uneven referee workloads.
+ *
+ * A greedy pass places matches in round order at the earliest feasible slot. Several local-search
+ * restarts then run on the caller's executor, each relocating random matches and keeping moves
+ * that do not increase the cost, until the time budget runs out or they stall. The best restart
+ * wins. Everything works on int indices; callers map ids and times in and out.
+ */
+public final class SlotScheduler {
+
+    public static final int NONE = -1;
+
+    private static final long UNPLACED_PENALTY = 1_000_000L;
+    private static final long ROUND_ORDER_PENALTY = 50L;
+
+    private SlotScheduler() {}
+
+    /** Input of one scheduling run. Team indices may be {@link #NONE} for a side that is not known yet. */
+    public static final class Problem {
+
+        final int matchCount;
+        final int teamCount;
+        final int[] home;
+        final int[] away;
+        final int[] round;
+        final long[] slotStart;
+        final int pitchCount;
+        final int slotLength;
+        final int minRest;
+        final int refereeCount;
+        final boolean[][] refereeAvailable;
+
+        /**
+         * @param slotStart        start of every slot in minutes, ascending
+         * @param refereeAvailable [referee][slot]; an empty array means matches get no referee
+         */
+        public Problem(int teamCount, int[] home, int[] away, int[] round,
+                       long[] slotStart, int pitchCount, int slotLength, int minRest,
+                       boolean[][] refereeAvailable) {
+            if (home.length != away.length || home.length != round.length) {
+                throw new IllegalArgumentException("home, away and round must have the same length");
+            }
+            if (pitchCount < 1) {
+                throw new IllegalArgumentException("At least one pitch is required");
+            }
+            if (slotLength < 1 || minRest < 0) {
+                throw new IllegalArgumentException("Slot length must be positive and rest not negative");
+            }
+            for (int i = 1; i < slotStart.length; i++) {
+                if (slotStart[i] < slotStart[i - 1]) {
+                    throw new IllegalArgumentException("Slots must be in ascending order");
+                }
+            }
+            this.matchCount = home.length;
+            this.teamCount = teamCount;
+            this.home = home;
+            this.away = away;
+            this.round = round;
+            this.slotStart = slotStart;
+            this.pitchCount = pitchCount;
+            this.slotLength = slotLength;
+            this.minRest = minRest;
+            this.refereeCount = refereeAvailable.length;
+            this.refereeAvailable = refereeAvailable;
+        }
+    }
+
+    /** Result per match: slot, pitch and referee index, or {@link #NONE} when it could not be placed. */
+    public static final class Solution {
+
+        private final int[] slot;
+        private final int[] pitch;
+        private final int[] referee;
+        private final int unplaced;
+        private final long cost;
+
+        Solution(int[] slot, int[] pitch, int[] referee, int unplaced, long cost) {
+            this.slot = slot;
+            this.pitch = pitch;
+            this.referee = referee;
+            this.unplaced = unplaced;
+            this.cost = cost;
+        }
+
+        public int slot(int match) {
+            return slot[match];
+        }
+
+        public int pitch(int match) {
+            return pitch[match];
+        }
+
+        public int referee(int match) {
+            return referee[match];
+        }
+
+        public int unplaced() {
+            return unplaced;
+        }
+
+        public long cost() {
+            return cost;
+        }
+    }
+
+    /** Runs the restarts one after another on the calling thread. */
+    public static Solution solve(Problem problem, int restarts, long timeBudgetMillis, long seed) {
+        return solve(problem, restarts, timeBudgetMillis, seed, Runnable::run);
+    }
+
+    /**
+     * Runs the restarts on {@code executor} and waits for them. Restarts the executor rejects are
+     * skipped; with none accepted the greedy schedule is returned, which is feasible but less tidy.
+     */
+    public static Solution solve(Problem problem, int restarts, long timeBudgetMillis, long seed, Executor executor) {
+        State greedy = new State(problem);
+        greedy.placeGreedily();
+        if (restarts < 1 || timeBudgetMillis <= 0 || problem.matchCount < 2) {
+            return greedy.toSolution();
+        }
+
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        List<CompletableFuture<Solution>> runs = new ArrayList<>(restarts);
+        for (int i = 0; i < restarts; i++) {
+            Random random = new Random(seed + i);
+            try {
+                runs.add(CompletableFuture.supplyAsync(() -> {
+                    State s = greedy.copy();
+                    s.improve(random, deadline);
+                    return s.toSolution();
+                }, executor));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        return runs.stream()
+                .map(CompletableFuture::join)
+                .min(Comparator.comparingLong(Solution::cost))
+                .orElseGet(greedy::toSolution);
+    }
+
+    private static final class State {
+
+        final Problem p;
+        final int[] slot;
+        final int[] pitch;
+        final int[] ref;
+        final int[] cell;      // slot * pitchCount + pitch -> match
+        final int[] refBusy;   // slot * refereeCount + referee -> match
+        final int[] refLoad;
+        final int[][] teamMatches;
+        long cost;
+        int unplaced;
+
+        State(Problem p) {
+            this.p = p;
+            this.slot = new int[p.matchCount];
+            this.pitch = new int[p.matchCount];
+            this.ref = new int[p.matchCount];
+            Arrays.fill(slot, NONE);
+            Arrays.fill(pitch, NONE);
+            Arrays.fill(ref, NONE);
+            this.cell = new int[p.slotStart.length * p.pitchCount];
+            this.refBusy = new int[p.slotStart.length * p.refereeCount];
+            Arrays.fill(cell, NONE);
+            Arrays.fill(refBusy, NONE);
+            this.refLoad = new int[p.refereeCount];
+            this.teamMatches = buildTeamMatches(p);
+            this.unplaced = p.matchCount;
+            this.cost = UNPLACED_PENALTY * p.matchCount;
+        }
+
+        private State(State o) {
+            this.p = o.p;
+            this.slot = o.slot.clone();
+            this.pitch = o.pitch.clone();
+            this.ref = o.ref.clone();
+            this.cell = o.cell.clone();
+            this.refBusy = o.refBusy.clone();
+            this.refLoad = o.refLoad.clone();
+            this.teamMatches = o.teamMatches;
+            this.cost = o.cost;
+            this.unplaced = o.unplaced;
+        }
+
+        State copy() {
+            return new State(this);
+        }
+
+        Solution toSolution() {
+            return new Solution(slot.clone(), pitch.clone(), ref.clone(), unplaced, cost);
+        }
+
+        private static int[][] buildTeamMatches(Problem p) {
+            int[] counts = new int[p.teamCount];
+            for (int m = 0; m < p.matchCount; m++) {
+                if (p.home[m] != NONE) counts[p.home[m]]++;
+                if (p.away[m] != NONE) counts[p.away[m]]++;
+            }
+            int[][] byTeam = new int[p.teamCount][];
+            for (int t = 0; t < p.teamCount; t++) {
+                byTeam[t] = new int[counts[t]];
+                counts[t] = 0;
+            }
+            for (int m = 0; m < p.matchCount; m++) {
+                if (p.home[m] != NONE) byTeam[p.home[m]][counts[p.home[m]]++] = m;
+                if (p.away[m] != NONE) byTeam[p.away[m]][counts[p.away[m]]++] = m;
+            }
+            return byTeam;
+        }
+
+        void placeGreedily() {
+            Integer[] order = new Integer[p.matchCount];
+            for (int m = 0; m < order.length; m++) {
+                order[m] = m;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(m -> p.round[m]).thenComparingInt(m -> m));
+
+            for (int m : order) {
+                for (int s = 0; s < p.slotStart.length; s++) {
+                    if (!teamsFree(m, s)) {
+                        continue;
+                    }
+                    int pi = freePitch(s, 0);
+                    if (pi == NONE) {
+                        continue;
+                    }
+                    int r = pickReferee(m, s);
+                    if (p.refereeCount > 0 && r == NONE) {
+                        continue;
+                    }
+                    move(m, s, pi, r, delta(m, s, r));
+                    break;
+                }
+            }
+        }
+
+        void improve(Random rnd, long deadline) {
+            int slots = p.slotStart.length;
+            if (slots == 0) {
+                return;
+            }
+            // stop early once a long run of attempts brings nothing
+            long stallLimit = Math.max(20_000L, 50L * p.matchCount);
+            long sinceImprovement = 0;
+            long iteration = 0;
+
+            while (sinceImprovement < stallLimit) {
+                if ((++iteration & 255) == 0 && System.nanoTime() > deadline) {
+                    break;
+                }
+                sinceImprovement++;
+
+                int m = rnd.nextInt(p.matchCount);
+                int current = slot[m];
+                int s;
+                if (current == NONE || rnd.nextBoolean()) {
+                    s = rnd.nextInt(slots);
+                } else {
+                    // most gains come from pulling a match a little earlier
+                    s = current - 1 - rnd.nextInt(Math.min(slots, 8));
+                    if (s < 0) {
+                        continue;
+                    }
+                }
+                if (s == current || !teamsFree(m, s)) {
+                    continue;
+                }
+                int pi = freePitch(s, rnd.nextInt(p.pitchCount));
+                if (pi == NONE) {
+                    continue;
+                }
+                int r = pickReferee(m, s);
+                if (p.refereeCount > 0 && r == NONE) {
+                    continue;
+                }
+
+                long d = delta(m, s, r);
+                if (d < 0) {
+                    move(m, s, pi, r, d);
+                    sinceImprovement = 0;
+                } else if (d == 0 && rnd.nextInt(4) == 0) {
+                    // sideways moves let the search cross plateaus
+                    move(m, s, pi, r, d);
+                }
+            }
+        }
+
+        private boolean teamsFree(int m, int s) {
+            return teamFree(p.home[m], m, s) && teamFree(p.away[m], m, s);
+        }
+
+        private boolean teamFree(int team, int m, int s) {
+            if (team == NONE) {
+                return true;
+            }
+            long start = p.slotStart[s];
+            long gap = (long) p.slotLength + p.minRest;
+            for (int o : teamMatches[team]) {
+                if (o != m && slot[o] != NONE && Math.abs(p.slotStart[slot[o]] - start) < gap) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int freePitch(int s, int offset) {
+            int base = s * p.pitchCount;
+            for (int i = 0; i < p.pitchCount; i++) {
+                int pi = (offset + i) % p.pitchCount;
+                if (cell[base + pi] == NONE) {
+                    return pi;
+                }
+            }
+            return NONE;
+        }
+
+        // least-loaded referee available and idle at slot s (m's own booking does not count)
+        private int pickReferee(int m, int s) {
+            int best = NONE;
+            int bestLoad = Integer.MAX_VALUE;
+            int base = s * p.refereeCount;
+            for (int r = 0; r < p.refereeCount; r++) {
+                if (!p.refereeAvailable[r][s]) {
+                    continue;
+                }
+                int busy = refBusy[base + r];
+                if (busy != NONE && busy != m) {
+                    continue;
+                }
+                int load = refLoad[r] - (ref[m] == r ? 1 : 0);
+                if (load < bestLoad) {
+                    best = r;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+
+        // cost change if m moved to slot s with referee r
+        private long delta(int m, int s, int r) {
+            long d = 0;
+            int current = slot[m];
+            if (current == NONE) {
+                d -= UNPLACED_PENALTY;
+                d += s;
+            } else {
+                d += s - current;
+            }
+            d += ROUND_ORDER_PENALTY * (inversions(m, s) - (current == NONE ? 0 : inversions(m, current)));
+
+            int r0 = ref[m];
+            if (r != r0) {
+                // sum of squared loads: +(2l+1) for the new referee, -(2l-1) for the old one
+                if (r != NONE) d += 2L * refLoad[r] + 1;
+                if (r0 != NONE) d -= 2L * refLoad[r0] - 1;
+            }
+            return d;
+        }
+
+        // pairs where one of m's teams plays a later round before an earlier one, with m at slot s
+        private int inversions(int m, int s) {
+            return inversions(p.home[m], m, s) + inversions(p.away[m], m, s);
+        }
+
+        private int inversions(int team, int m, int s) {
+            if (team == NONE) {
+                return 0;
+            }
+            int count = 0;
+            long start = p.slotStart[s];
+            int round = p.round[m];
+            for (int o : teamMatches[team]) {
+                if (o == m || slot[o] == NONE || p.round[o] == round) {
+                    continue;
+                }
+                long other = p.slotStart[slot[o]];
+                if ((p.round[o] < round) != (other < start)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void move(int m, int s, int pi, int r, long delta) {
+            int current = slot[m];
+            if (current == NONE) {
+                unplaced--;
+            } else {
+                cell[current * p.pitchCount + pitch[m]] = NONE;
+                if (ref[m] != NONE) {
+                    refBusy[current * p.refereeCount + ref[m]] = NONE;
+                    refLoad[ref[m]]--;
+                }
+            }
+            slot[m] = s;
+            pitch[m] = pi;
+            ref[m] = r;
+            cell[s * p.pitchCount + pi] = m;
+            if (r != NONE) {
+                refBusy[s * p.refereeCount + r] = m;
+                refLoad[r]++;
+            }
+            cost += delta;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.tournapro.service;
+
+import com.tournapro.config.ReadReplicaDataSource;
+import com.tournapro.dto.StandingsResponse;
+import com.tournapro.entity.Division;
+import com.tournapro.entity.Match;
+import com.tournapro.entity.Team;
+import com.tournapro.entity.Tournament;
+import com.tournapro.event.TournamentChangeEvent;
+import com.tournapro.repository.DivisionRepository;
+import com.tournapro.repository.MatchRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one {@link StandingsTable} per division in memory. A table is built from the database on
+ * first read; after that each committed result is applied to it as a delta and reads return the
+ * published snapshot without touching the database.
+ */
+@Service
+public class StandingsService {
+
+    private final DivisionRepository divisionRepository;
+    private final MatchRepository matchRepository;
+    private final TournamentAccessService accessService;
+    private final ApplicationEventPublisher events;
+    private final ConcurrentHashMap<Long, StandingsTable> tables = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> tournamentOfDivision = new ConcurrentHashMap<>();
+
+    public StandingsService(DivisionRepository divisionRepository,
+                            MatchRepository matchRepository,
+                            TournamentAccessService accessService,
+                            ApplicationEventPublisher events) {
+        this.divisionRepository = divisionRepository;
+        this.matchRepository = matchRepository;
+        this.accessService = accessService;
+        this.events = events;
+    }
+
+    // open to everyone who may enter the tournament's results
+    @Transactional(readOnly = true)
+    public StandingsResponse getStandings(Long tournamentId, Long divisionId) {
+        // a table loaded from a lagging replica would miss results and keep missing them
+        return ReadReplicaDataSource.onPrimary(() -> {
+            Tournament tournament = accessService.getTournamentForResults(tournamentId);
+            if (!divisionRepository.existsByIdAndTournament(divisionId, tournament)) {
+                throw new NoSuchElementException("Division not found: " + divisionId);
+            }
+            return table(divisionId).snapshot();
+        });
+    }
+
+    // current table without the access check, for services that already did theirs
+    StandingsResponse snapshot(Long divisionId) {
+        return table(divisionId).snapshot();
+    }
+
+    /**
+     * Applies a result once the surrounding transaction commits (immediately when there is none).
+     * Tables that are not loaded are skipped; they read the committed result when first built.
+     * Spectators of a loaded table are sent the new snapshot.
+     */
+    public void resultRecorded(Long divisionId, Long matchId, Long homeTeamId, Long awayTeamId,
+                               int homeScore, int awayScore) {
+        afterCommit(() -> tables.computeIfPresent(divisionId, (id, table) -> {
+            table.applyResult(matchId, homeTeamId, awayTeamId, homeScore, awayScore);
+            return table;
+        }));
+        Long tournamentId = tournamentOfDivision.get(divisionId);
+        if (tournamentId != null) {
+            // read when the broadcast goes out, after the delta above has been applied
+            Supplier<StandingsResponse> latest = () -> {
+                StandingsTable table = tables.get(divisionId);
+                return table != null ? table.snapshot() : null;
+            };
+            events.publishEvent(new TournamentChangeEvent(tournamentId,
+                    TournamentChangeEvent.STANDINGS_UPDATE, divisionId, latest));
+        }
+    }
+
+    /** Drops a division's table after commit, e.g. when its teams or schedule change. */
+    public void evictDivision(Long divisionId) {
+        afterCommit(() -> {
+            tables.remove(divisionId);
+            tournamentOfDivision.remove(divisionId);
+        });
+    }
+
+    /** Drops every table of a tournament after commit, e.g. when a team is renamed or deleted. */
+    public void evictTournament(Long tournamentId) {
+        afterCommit(() -> tournamentOfDivision.forEach((divisionId, tid) -> {
+            if (tid.equals(tournamentId)) {
+                tables.remove(divisionId);
+                tournamentOfDivision.remove(divisionId);
+            }
+        }));
+    }
+
+    // The load runs while holding the map's lock for this key, so a result committed during the
+    // load waits in computeIfPresent and is applied on top; applying it twice is harmless.
+    private StandingsTable table(Long divisionId) {
+        return tables.computeIfAbsent(divisionId, this::load);
+    }
+
+    private StandingsTable load(Long divisionId) {
+        Division division = divisionRepository.findById(divisionId)
+                .orElseThrow(() -> new NoSuchElementException("Division not found: " + divisionId));
+        List<Match> matches = matchRepository.findByDivisionWithTeams(division);
+
+        StandingsTable table = new StandingsTable(divisionId);
+        for (Team t : division.getTeams()) {
+            table.addTeam(t.getId(), t.getName(), null);
+        }
+        // group membership comes from the schedule
+        for (Match m : matches) {
+            if (m.getGroupLabel() != null) {
+                if (m.getHomeTeam() != null) table.addTeam(m.getHomeTeam().getId(), m.getHomeTeam().getName(), m.getGroupLabel());
+                if (m.getAwayTeam() != null) table.addTeam(m.getAwayTeam().getId(), m.getAwayTeam().getName(), m.getGroupLabel());
+            }
+        }
+        for (Match m : matches) {
+            if (countsForStandings(m)) {
+                table.applyResult(m.getId(), m.getHomeTeam().getId(), m.getAwayTeam().getId(),
+                        m.getHomeScore(), m.getAwayScore());
+            }
+        }
+        table.publish();
+        tournamentOfDivision.put(divisionId, division.getTournament().getId());
+        return table;
+    }
+
+    // league and group fixtures count; knockout matches do not
+    static boolean countsForStandings(Match m) {
+        boolean leagueMatch = m.getBracketType() == null
+                || ScheduleService.BRACKET_ROUND_ROBIN.equals(m.getBracketType())
+                || ScheduleService.BRACKET_GROUP.equals(m.getBracketType());
+        return leagueMatch
+                && m.getStatus() == Match.Status.COMPLETED
+                && m.getHomeTeam() != null && m.getAwayTeam() != null
+                && m.getHomeScore() != null && m.getAwayScore() != null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.GroupStandingsResponse;
+import com.tournapro.dto.StandingRowResponse;
+import com.tournapro.dto.StandingsResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * In-memory standings of one division, maintained incrementally.
+ *
+ * Each result is applied as a delta: whatever this table last counted for the match is reversed
+ * and the new score added, so corrections never need a recompute and re-applying the same result
+ * is harmless. Head-to-head records are kept per team pair alongside the totals. After every
+ * change a fresh {@link StandingsResponse} is built and published, so readers never lock and never
+ * sort; published responses are shared between readers and must not be modified.
+ *
+ * Tiebreakers within a group: points, head-to-head points and goal difference among the tied
+ * teams, overall goal difference, goals scored, then name.
+ */
+public class StandingsTable {
+
+    public static final int POINTS_WIN = 3;
+    public static final int POINTS_DRAW = 1;
+
+    private static final class Stats {
+        final long teamId;
+        final String teamName;
+        String group;
+        int won;
+        int drawn;
+        int lost;
+        int goalsFor;
+        int goalsAgainst;
+
+        Stats(long teamId, String teamName) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+        }
+
+        int points() {
+            return won * POINTS_WIN + drawn * POINTS_DRAW;
+        }
+    }
+
+    // result this table currently counts for a match
+    private static final class Applied {
+        final long homeId;
+        final long awayId;
+        final int homeScore;
+        final int awayScore;
+
+        Applied(long homeId, long awayId, int homeScore, int awayScore) {
+            this.homeId = homeId;
+            this.awayId = awayId;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+        }
+
+        boolean sameAs(Applied o) {
+            return o != null && homeId == o.homeId && awayId == o.awayId
+                    && homeScore == o.homeScore && awayScore == o.awayScore;
+        }
+    }
+
+    // head-to-head between teams low < high, from the lower id's point of view
+    private static final class HeadToHead {
+        int lowPoints;
+        int highPoints;
+        int lowGoals;
+        int highGoals;
+    }
+
+    private final Map<Long, Stats> teams = new LinkedHashMap<>();
+    private final Map<Long, Applied> applied = new HashMap<>();
+    private final Map<Long, HeadToHead> headToHead = new HashMap<>();
+    private final Long divisionId;
+    private long version;
+    private volatile StandingsResponse snapshot;
+
+    public StandingsTable(Long divisionId) {
+        this.divisionId = divisionId;
+        this.snapshot = new StandingsResponse(divisionId, 0, List.of());
+    }
+
+    public synchronized void addTeam(long teamId, String teamName, String group) {
+        Stats s = teams.computeIfAbsent(teamId, id -> new Stats(id, teamName));
+        if (group != null) {
+            s.group = group;
+        }
+    }
+
+    /**
+     * Counts the match with the given score, replacing what was previously counted for it.
+     * Teams not registered with {@link #addTeam} are ignored.
+     */
+    public synchronized void applyResult(long matchId, long homeId, long awayId, int homeScore, int awayScore) {
+        Applied previous = applied.get(matchId);
+        Applied next = new Applied(homeId, awayId, homeScore, awayScore);
+        if (next.sameAs(previous)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        add(next, 1);
+        applied.put(matchId, next);
+        publish();
+    }
+
+    /** Stops counting the match, e.g. when its result is cleared. */
+    public synchronized void removeResult(long matchId) {
+        Applied previous = applied.remove(matchId);
+        if (previous != null) {
+            add(previous, -1);
+            publish();
+        }
+    }
+
+    /** Lock-free read of the latest published table; {@code version} grows with every change. */
+    public StandingsResponse snapshot() {
+        return snapshot;
+    }
+
+    /** Rebuilds the snapshot after a batch of {@link #addTeam} calls. */
+    public synchronized void publish() {
+        version++;
+        Map<String, List<Stats>> byGroup = new HashMap<>();
+        for (Stats s : teams.values()) {
+            byGroup.computeIfAbsent(s.group, g -> new ArrayList<>()).add(s);
+        }
+
+        List<String> labels = new ArrayList<>(byGroup.keySet());
+        labels.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        List<GroupStandingsResponse> groups = new ArrayList<>(labels.size());
+        for (String label : labels) {
+            List<Stats> ranked = rank(byGroup.get(label));
+            List<StandingRowResponse> rows = new ArrayList<>(ranked.size());
+            for (int i = 0; i < ranked.size(); i++) {
+                rows.add(toRow(i + 1, ranked.get(i)));
+            }
+            groups.add(new GroupStandingsResponse(label, Collections.unmodifiableList(rows)));
+        }
+        snapshot = new StandingsResponse(divisionId, version, Collections.unmodifiableList(groups));
+    }
+
+    private static StandingRowResponse toRow(int position, Stats s) {
+        return new StandingRowResponse(
+                position,
+                s.teamId,
+                s.teamName,
+                s.won + s.drawn + s.lost,
+                s.won,
+                s.drawn,
+                s.lost,
+                s.goalsFor,
+                s.goalsAgainst,
+                s.goalsFor - s.goalsAgainst,
+                s.points()
+        );
+    }
+
+    private void add(Applied a, int sign) {
+        Stats home = teams.get(a.homeId);
+        Stats away = teams.get(a.awayId);
+        int hs = a.homeScore;
+        int as = a.awayScore;
+
+        if (home != null) {
+            home.goalsFor += sign * hs;
+            home.goalsAgainst += sign * as;
+            if (hs > as) home.won += sign;
+            else if (hs == as) home.drawn += sign;
+            else home.lost += sign;
+        }
+        if (away != null) {
+            away.goalsFor += sign * as;
+            away.goalsAgainst += sign * hs;
+            if (as > hs) away.won += sign;
+            else if (as == hs) away.drawn += sign;
+            else away.lost += sign;
+        }
+
+        int homePoints = hs > as ? POINTS_WIN : hs == as ? POINTS_DRAW : 0;
+        int awayPoints = as > hs ? POINTS_WIN : hs == as ? POINTS_DRAW : 0;
+        HeadToHead h = headToHead.computeIfAbsent(pairKey(a.homeId, a.awayId), k -> new HeadToHead());
+        if (a.homeId < a.awayId) {
+            h.lowPoints += sign * homePoints;
+            h.highPoints += sign * awayPoints;
+            h.lowGoals += sign * hs;
+            h.highGoals += sign * as;
+        } else {
+            h.lowPoints += sign * awayPoints;
+            h.highPoints += sign * homePoints;
+            h.lowGoals += sign * as;
+            h.highGoals += sign * hs;
+        }
+    }
+
+    private List<Stats> rank(List<Stats> group) {
+        group.sort(Comparator.comparingInt(Stats::points).reversed());
+
+        List<Stats> ranked = new ArrayList<>(group.size());
+        int i = 0;
+        while (i < group.size()) {
+            int j = i + 1;
+            while (j < group.size() && group.get(j).points() == group.get(i).points()) {
+                j++;
+            }
+            List<Stats> tied = new ArrayList<>(group.subList(i, j));
+            if (tied.size() > 1) {
+                tied.sort(tiebreak(tied));
+            }
+            ranked.addAll(tied);
+            i = j;
+        }
+        return ranked;
+    }
+
+    // mini-league among teams level on points, then overall goal difference, goals scored, name
+    private Comparator<Stats> tiebreak(List<Stats> tied) {
+        Set<Long> ids = new HashSet<>();
+        for (Stats s : tied) {
+            ids.add(s.teamId);
+        }
+        Map<Long, int[]> mini = new HashMap<>();
+        for (Stats s : tied) {
+            int points = 0;
+            int goalDiff = 0;
+            for (Long other : ids) {
+                if (other == s.teamId) {
+                    continue;
+                }
+                HeadToHead h = headToHead.get(pairKey(s.teamId, other));
+                if (h == null) {
+                    continue;
+                }
+                boolean low = s.teamId < other;
+                points += low ? h.lowPoints : h.highPoints;
+                goalDiff += low ? h.lowGoals - h.highGoals : h.highGoals - h.lowGoals;
+            }
+            mini.put(s.teamId, new int[]{points, goalDiff});
+        }
+
+        return Comparator.<Stats>comparingInt(s -> mini.get(s.teamId)[0]).reversed()
+                .thenComparing(Comparator.<Stats>comparingInt(s -> mini.get(s.teamId)[1]).reversed())
+                .thenComparing(Comparator.<Stats>comparingInt(s -> s.goalsFor - s.goalsAgainst).reversed())
+                .thenComparing(Comparator.<Stats>comparingInt(s -> s.goalsFor).reversed())
+                .thenComparing(s -> Objects.requireNonNullElse(s.teamName, ""))
+                .thenComparingLong(s -> s.teamId);
+    }
+
+    // an unordered pair of ids as one key; team ids stay well below 2^31
+    private static long pairKey(long a, long b) {
+        long low = Math.min(a, b);
+        long high = Math.max(a, b);
+        return (low << 32) | high;
+    }
+}
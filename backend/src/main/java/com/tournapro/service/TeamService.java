@@ -1,24 +1,22 @@
 package com.tournapro.service;
 
 import com.tournapro.dto.CreateTeamRequest;
+import com.tournapro.dto.CursorPage;
+import com.tournapro.dto.PublicTeamResponse;
 import com.tournapro.dto.TeamResponse;
 import com.tournapro.entity.Team;
 import com.tournapro.entity.Tournament;
-import com.tournapro.entity.User;
+import com.tournapro.event.TournamentChangeEvent;
 import com.tournapro.repository.TeamRepository;
-import com.tournapro.repository.TournamentRepository;
-import com.tournapro.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,33 +24,34 @@ import java.util.stream.Collectors;
 public class TeamService {
 
     private final TeamRepository teamRepository;
-    private final TournamentRepository tournamentRepository;
-    private final UserRepository userRepository;
+    private final TournamentAccessService accessService;
+    private final LogoStorageService logoStorage;
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher events;
+    private final ResponseCache responseCache;
+    private final DataVersionService dataVersions;
+    private final AuditService audit;
 
     public TeamService(TeamRepository teamRepository,
-                       TournamentRepository tournamentRepository,
-                       UserRepository userRepository) {
+                       TournamentAccessService accessService,
+                       LogoStorageService logoStorage,
+                       StandingsService standingsService,
+                       ApplicationEventPublisher events,
+                       ResponseCache responseCache,
+                       DataVersionService dataVersions,
+                       AuditService audit) {
         this.teamRepository = teamRepository;
-        this.tournamentRepository = tournamentRepository;
-        this.userRepository = userRepository;
-    }
-
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        this.accessService = accessService;
+        this.logoStorage = logoStorage;
+        this.standingsService = standingsService;
+        this.events = events;
+        this.responseCache = responseCache;
+        this.dataVersions = dataVersions;
+        this.audit = audit;
     }
 
     private Tournament getOwnedTournament(Long tournamentId) {
-        Tournament t = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
-
-        User current = getCurrentUser();
-        if (!t.getOwner().getId().equals(current.getId())) {
-            throw new IllegalStateException("You do not own this tournament");
-        }
-        return t;
+        return accessService.getOwnedTournament(tournamentId);
     }
 
     @Transactional
@@ -77,29 +76,27 @@ public class TeamService {
         }
 
         Team saved = teamRepository.save(team);
-        return toResponse(saved);
+        return published(tournamentId, saved, AuditService.CREATE);
     }
 
     @Transactional
     public List<TeamResponse> bulkCreate(Long tournamentId, List<CreateTeamRequest> requests) {
         Tournament tournament = getOwnedTournament(tournamentId);
 
-        List<Team> teams = requests.stream().map(r -> {
-            Team t = new Team();
-            t.setTournament(tournament);
-            t.setName(r.getName());
-            t.setShortName(r.getShortName());
-            t.setEmail(r.getEmail());
-            t.setCountry(r.getCountry());
-            t.setLogoUrl(r.getLogoUrl());
-            t.setDressingRoom(r.getDressingRoom());
-            if (r.getPresent() != null) t.setPresent(r.getPresent());
-            if (r.getPaid() != null) t.setPaid(r.getPaid());
-            return t;
-        }).collect(Collectors.toList());
+        List<Team> teams = requests.stream()
+                .map(r -> newTeam(tournament, r))
+                .collect(Collectors.toList());
 
         List<Team> saved = teamRepository.saveAll(teams);
-        return saved.stream().map(this::toResponse).collect(Collectors.toList());
+        List<TeamResponse> responses = saved.stream().map(TeamService::toResponse).collect(Collectors.toList());
+        if (!responses.isEmpty()) {
+            // one version bump, audit entry and event for the whole batch, not one per team
+            dataVersions.changed(tournamentId);
+            audit.record(tournamentId, AuditService.TEAM, null, AuditService.CREATE, responses);
+            events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.ROSTER_UPDATE,
+                    null, TournamentChangeEvent.rosterChanged(responses.size())));
+        }
+        return responses;
     }
 
     @Transactional(readOnly = true)
@@ -107,22 +104,47 @@ public class TeamService {
         Tournament tournament = getOwnedTournament(tournamentId);
         return teamRepository.findByTournamentOrderByNameAsc(tournament)
                 .stream()
-                .map(this::toResponse)
+                .map(TeamService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    // getTeams as JSON, cached per data version (DataVersionService.version, read for the ETag)
+    public byte[] getTeamsJson(Long tournamentId, Long dataVersion) {
+        getOwnedTournament(tournamentId);
+        return responseCache.get(ResponseCache.tournament(tournamentId), "teams", dataVersion, () -> getTeams(tournamentId));
+    }
+
     @Transactional(readOnly = true)
     public Page<TeamResponse> getTeamsPaged(Long tournamentId, int page, int size) {
         Tournament tournament = getOwnedTournament(tournamentId);
-        List<TeamResponse> all = teamRepository.findByTournamentOrderByNameAsc(tournament)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), KeysetCursor.clampSize(size),
+                Sort.by("name").ascending().and(Sort.by("id").ascending()));
+        return teamRepository.findByTournament(tournament, pageable).map(TeamService::toResponse);
+    }
+
+    // keyset listing: cost does not grow with the page number
+    @Transactional(readOnly = true)
+    public CursorPage<TeamResponse> getTeamsAfter(Long tournamentId, String cursor, int size, boolean includeTotal) {
+        Tournament tournament = getOwnedTournament(tournamentId);
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // fetch one extra row to know whether there is a next page
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+        List<Team> rows = after == null
+                ? teamRepository.findByTournamentOrderByNameAscIdAsc(tournament, fetch)
+                : teamRepository.findPageAfter(tournament, after.getKey(), after.getId(), fetch);
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Team last = rows.get(limit - 1);
+            next = KeysetCursor.encode(last.getName(), last.getId());
+        }
 
-        int from = Math.min(page * size, all.size());
-        int to = Math.min(from + size, all.size());
-        List<TeamResponse> sub = all.subList(from, to);
-        return new PageImpl<>(sub, PageRequest.of(page, size), all.size());
+        Long total = includeTotal ? teamRepository.countByTournament(tournament) : null;
+        List<TeamResponse> content = rows.stream().map(TeamService::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(content, next, total);
     }
 
     @Transactional
@@ -138,7 +160,12 @@ public class TeamService {
 
         // Partial update: only overwrite fields that are non-null (and non-empty for name)
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
-            team.setName(request.getName().trim());
+            String name = request.getName().trim();
+            if (!name.equals(team.getName())) {
+                // standings tables carry team names
+                standingsService.evictTournament(tournamentId);
+            }
+            team.setName(name);
         }
         if (request.getShortName() != null) {
             team.setShortName(request.getShortName().trim());
@@ -165,7 +192,7 @@ public class TeamService {
         }
 
         Team saved = teamRepository.save(team);
-        return toResponse(saved);
+        return published(tournamentId, saved, AuditService.UPDATE);
     }
 
     @Transactional
@@ -178,10 +205,15 @@ public class TeamService {
             throw new IllegalStateException("Team does not belong to the tournament");
         }
 
+        audit.record(tournamentId, AuditService.TEAM, teamId, AuditService.DELETE, toResponse(team));
         teamRepository.delete(team);
+        standingsService.evictTournament(tournamentId);
+        dataVersions.changed(tournamentId);
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.TEAM_UPDATE,
+                teamId, TournamentChangeEvent.deleted(teamId)));
     }
 
-    // NEW: upload logo and save as base64 data URL in logoUrl column
+    // Upload logo into the logo store; the team row only keeps the short URL it is served from
     @Transactional
     public TeamResponse uploadLogo(Long tournamentId, Long teamId, MultipartFile file) throws IOException {
         Tournament tournament = getOwnedTournament(tournamentId);
@@ -192,21 +224,39 @@ public class TeamService {
             throw new IllegalStateException("Team does not belong to the tournament");
         }
 
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("Empty file upload");
-        }
-
-        String contentType = file.getContentType();
-        byte[] bytes = file.getBytes();
-        String base64 = Base64.getEncoder().encodeToString(bytes);
-        String dataUrl = (contentType != null ? "data:" + contentType + ";base64," : "data:image/png;base64,") + base64;
+        String filename = logoStorage.store(file);
 
-        team.setLogoUrl(dataUrl);
+        team.setLogoUrl(logoStorage.publicUrl(filename));
         Team saved = teamRepository.save(team);
-        return toResponse(saved);
+        return published(tournamentId, saved, AuditService.UPDATE);
+    }
+
+    private TeamResponse published(Long tournamentId, Team t, String action) {
+        dataVersions.changed(tournamentId);
+        TeamResponse response = toResponse(t);
+        audit.record(tournamentId, AuditService.TEAM, t.getId(), action, response);
+        // the feeds are public, so they get the spectator view of the team
+        events.publishEvent(new TournamentChangeEvent(tournamentId, TournamentChangeEvent.TEAM_UPDATE,
+                t.getId(), toPublicResponse(t)));
+        return response;
+    }
+
+    // shared with the streaming roster import
+    static Team newTeam(Tournament tournament, CreateTeamRequest r) {
+        Team t = new Team();
+        t.setTournament(tournament);
+        t.setName(r.getName());
+        t.setShortName(r.getShortName());
+        t.setEmail(r.getEmail());
+        t.setCountry(r.getCountry());
+        t.setLogoUrl(r.getLogoUrl());
+        t.setDressingRoom(r.getDressingRoom());
+        if (r.getPresent() != null) t.setPresent(r.getPresent());
+        if (r.getPaid() != null) t.setPaid(r.getPaid());
+        return t;
     }
 
-    private TeamResponse toResponse(Team t) {
+    static TeamResponse toResponse(Team t) {
         return new TeamResponse(
                 t.getId(),
                 t.getName(),
@@ -220,4 +270,14 @@ public class TeamService {
                 t.getCreatedAt()
         );
     }
+
+    static PublicTeamResponse toPublicResponse(Team t) {
+        return new PublicTeamResponse(
+                t.getId(),
+                t.getName(),
+                t.getShortName(),
+                t.getCountry(),
+                t.getLogoUrl()
+        );
+    }
 }
@@ -0,0 +1,140 @@
+package com.tournapro.service;
+
+import com.tournapro.entity.Tournament;
+import com.tournapro.entity.User;
+import com.tournapro.repository.AdministratorRepository;
+import com.tournapro.repository.RefereeRepository;
+import com.tournapro.repository.TournamentRepository;
+import com.tournapro.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the authenticated user and the tournaments they own.
+ *
+ * The user is taken from the principal that JwtAuthenticationFilter already loaded, so no extra
+ * users query is needed. Owned-tournament lookups are memoized in the current request's attributes,
+ * so several service calls within one HTTP request only hit the tournaments table once per id.
+ * Outside of a web request (tests, background jobs) nothing is cached.
+ */
+@Service
+public class TournamentAccessService {
+
+    private static final String CURRENT_USER_ATTR = TournamentAccessService.class.getName() + ".currentUser";
+    private static final String OWNED_TOURNAMENTS_ATTR = TournamentAccessService.class.getName() + ".ownedTournaments";
+
+    private final TournamentRepository tournamentRepository;
+    private final UserRepository userRepository;
+    private final RefereeRepository refereeRepository;
+    private final AdministratorRepository administratorRepository;
+
+    public TournamentAccessService(TournamentRepository tournamentRepository,
+                                   UserRepository userRepository,
+                                   RefereeRepository refereeRepository,
+                                   AdministratorRepository administratorRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.userRepository = userRepository;
+        this.refereeRepository = refereeRepository;
+        this.administratorRepository = administratorRepository;
+    }
+
+    public User getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            throw new IllegalStateException("No authenticated user");
+        }
+
+        // JwtAuthenticationFilter stores the loaded User entity as principal
+        if (auth.getPrincipal() instanceof User user) {
+            return user;
+        }
+
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null && attrs.getAttribute(CURRENT_USER_ATTR, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            return cached;
+        }
+
+        String email = auth.getName();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        if (attrs != null) {
+            attrs.setAttribute(CURRENT_USER_ATTR, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    public Tournament getOwnedTournament(Long tournamentId) {
+        Map<Long, Tournament> owned = ownedTournamentsForRequest();
+        if (owned != null) {
+            Tournament cached = owned.get(tournamentId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Tournament t = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
+
+        // owner is a lazy association; reading its id does not initialize the proxy
+        User current = getCurrentUser();
+        if (!t.getOwner().getId().equals(current.getId())) {
+            throw new IllegalStateException("You do not own this tournament");
+        }
+
+        if (owned != null) {
+            owned.put(tournamentId, t);
+        }
+        return t;
+    }
+
+    /**
+     * Tournament whose match results the current user may enter and read: its owner, platform
+     * admins, and anyone listed as one of its referees or administrators (matched by email).
+     */
+    public Tournament getTournamentForResults(Long tournamentId) {
+        Tournament t = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + tournamentId));
+
+        User current = getCurrentUser();
+        if (t.getOwner().getId().equals(current.getId()) || current.getRole() == User.Role.ADMIN) {
+            return t;
+        }
+        String email = current.getEmail();
+        if (refereeRepository.existsByTournamentAndEmailIgnoreCase(t, email)
+                || administratorRepository.existsByTournamentAndEmailIgnoreCase(t, email)) {
+            return t;
+        }
+        throw new IllegalStateException("You may not enter results for this tournament");
+    }
+
+    /**
+     * Forget any tournaments memoized for the current request, e.g. after one was deleted.
+     */
+    public void evict(Long tournamentId) {
+        Map<Long, Tournament> owned = ownedTournamentsForRequest();
+        if (owned != null) {
+            owned.remove(tournamentId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Tournament> ownedTournamentsForRequest() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
+            return null;
+        }
+        Object existing = attrs.getAttribute(OWNED_TOURNAMENTS_ATTR, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof Map) {
+            return (Map<Long, Tournament>) existing;
+        }
+        Map<Long, Tournament> created = new HashMap<>();
+        attrs.setAttribute(OWNED_TOURNAMENTS_ATTR, created, RequestAttributes.SCOPE_REQUEST);
+        return created;
+    }
+}
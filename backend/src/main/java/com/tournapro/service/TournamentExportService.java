@@ -0,0 +1,209 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournapro.entity.Player;
+import com.tournapro.entity.Referee;
+import com.tournapro.entity.Team;
+import com.tournapro.repository.PlayerRepository;
+import com.tournapro.repository.RefereeRepository;
+import com.tournapro.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams a tournament's teams, players and referees as CSV or NDJSON.
+ *
+ * Rows come from Spring Data {@code Stream} queries with a JDBC fetch size and are written to the
+ * response as they are read, detaching each entity afterwards, so memory use does not depend on
+ * the size of the tournament. The ownership check runs on the request thread; the body is written
+ * later on the MVC async executor inside a read-only transaction.
+ */
+@Service
+public class TournamentExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    public enum Resource { ALL, TEAMS, PLAYERS, REFEREES }
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final RefereeRepository refereeRepository;
+    private final TournamentAccessService accessService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TournamentExportService(TeamRepository teamRepository,
+                                   PlayerRepository playerRepository,
+                                   RefereeRepository refereeRepository,
+                                   TournamentAccessService accessService,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.refereeRepository = refereeRepository;
+        this.accessService = accessService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+
+    public static Resource parseResource(String resource) {
+        try {
+            return Resource.valueOf(resource.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export resource: " + resource);
+        }
+    }
+
+    public StreamingResponseBody export(Long tournamentId, Format format, Resource resource) {
+        accessService.getOwnedTournament(tournamentId);
+        if (format == Format.CSV && resource == Resource.ALL) {
+            throw new IllegalArgumentException("CSV export needs a single resource: teams, players or referees");
+        }
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try {
+                readOnlyTx.executeWithoutResult(status -> {
+                    try {
+                        if (format == Format.CSV) {
+                            writeCsv(writer, tournamentId, resource);
+                        } else {
+                            writeNdjson(writer, tournamentId, resource);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeCsv(Writer writer, Long tournamentId, Resource resource) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        switch (resource) {
+            case TEAMS -> {
+                csv.writeRow("id", "name", "shortName", "email", "country", "logoUrl", "dressingRoom", "present", "paid", "createdAt");
+                try (Stream<Team> teams = teamRepository.streamByTournamentId(tournamentId)) {
+                    for (Team t : (Iterable<Team>) teams::iterator) {
+                        csv.writeRow(t.getId(), t.getName(), t.getShortName(), t.getEmail(), t.getCountry(),
+                                t.getLogoUrl(), t.getDressingRoom(), t.getPresent(), t.getPaid(), t.getCreatedAt());
+                        entityManager.detach(t);
+                    }
+                }
+            }
+            case PLAYERS -> {
+                csv.writeRow("id", "teamId", "teamName", "name", "dob", "number", "createdAt");
+                try (Stream<Player> players = playerRepository.streamByTournamentId(tournamentId)) {
+                    for (Player p : (Iterable<Player>) players::iterator) {
+                        csv.writeRow(p.getId(), p.getTeam().getId(), p.getTeam().getName(), p.getName(),
+                                p.getDob(), p.getNumber(), p.getCreatedAt());
+                        entityManager.detach(p);
+                    }
+                }
+            }
+            case REFEREES -> {
+                csv.writeRow("id", "name", "email", "phone", "role", "createdAt");
+                try (Stream<Referee> referees = refereeRepository.streamByTournamentId(tournamentId)) {
+                    for (Referee r : (Iterable<Referee>) referees::iterator) {
+                        csv.writeRow(r.getId(), r.getName(), r.getEmail(), r.getPhone(), r.getRole(), r.getCreatedAt());
+                        entityManager.detach(r);
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported export resource: " + resource);
+        }
+    }
+
+    // one JSON object per line, each tagged with its "type"
+    private void writeNdjson(Writer writer, Long tournamentId, Resource resource) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        // the generator must not close the response writer after each value
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        if (resource == Resource.ALL || resource == Resource.TEAMS) {
+            try (Stream<Team> teams = teamRepository.streamByTournamentId(tournamentId)) {
+                for (Team t : (Iterable<Team>) teams::iterator) {
+                    json.writeStartObject();
+                    json.writeStringField("type", "team");
+                    json.writeNumberField("id", t.getId());
+                    json.writeStringField("name", t.getName());
+                    json.writeStringField("shortName", t.getShortName());
+                    json.writeStringField("email", t.getEmail());
+                    json.writeStringField("country", t.getCountry());
+                    json.writeStringField("logoUrl", t.getLogoUrl());
+                    json.writeStringField("dressingRoom", t.getDressingRoom());
+                    json.writeObjectField("present", t.getPresent());
+                    json.writeObjectField("paid", t.getPaid());
+                    json.writeObjectField("createdAt", t.getCreatedAt());
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                    entityManager.detach(t);
+                }
+            }
+        }
+        if (resource == Resource.ALL || resource == Resource.PLAYERS) {
+            try (Stream<Player> players = playerRepository.streamByTournamentId(tournamentId)) {
+                for (Player p : (Iterable<Player>) players::iterator) {
+                    json.writeStartObject();
+                    json.writeStringField("type", "player");
+                    json.writeNumberField("id", p.getId());
+                    json.writeNumberField("teamId", p.getTeam().getId());
+                    json.writeStringField("name", p.getName());
+                    json.writeObjectField("dob", p.getDob());
+                    json.writeObjectField("number", p.getNumber());
+                    json.writeObjectField("createdAt", p.getCreatedAt());
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                    entityManager.detach(p);
+                }
+            }
+        }
+        if (resource == Resource.ALL || resource == Resource.REFEREES) {
+            try (Stream<Referee> referees = refereeRepository.streamByTournamentId(tournamentId)) {
+                for (Referee r : (Iterable<Referee>) referees::iterator) {
+                    json.writeStartObject();
+                    json.writeStringField("type", "referee");
+                    json.writeNumberField("id", r.getId());
+                    json.writeStringField("name", r.getName());
+                    json.writeStringField("email", r.getEmail());
+                    json.writeStringField("phone", r.getPhone());
+                    json.writeStringField("role", r.getRole());
+                    json.writeObjectField("createdAt", r.getCreatedAt());
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                    entityManager.detach(r);
+                }
+            }
+        }
+        json.flush();
+    }
+}
@@ -4,10 +4,9 @@ import com.tournapro.dto.CreateTournamentRequest;
 import com.tournapro.dto.TournamentResponse;
 import com.tournapro.entity.Tournament;
 import com.tournapro.entity.User;
+import com.tournapro.event.TournamentChangeEvent;
 import com.tournapro.repository.TournamentRepository;
-import com.tournapro.repository.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,19 +17,25 @@ import java.util.stream.Collectors;
 public class TournamentService {
 
     private final TournamentRepository tournamentRepository;
-    private final UserRepository userRepository;
+    private final TournamentAccessService accessService;
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher events;
+    private final ResponseCache responseCache;
 
     public TournamentService(TournamentRepository tournamentRepository,
-                             UserRepository userRepository) {
+                             TournamentAccessService accessService,
+                             StandingsService standingsService,
+                             ApplicationEventPublisher events,
+                             ResponseCache responseCache) {
         this.tournamentRepository = tournamentRepository;
-        this.userRepository = userRepository;
+        this.accessService = accessService;
+        this.standingsService = standingsService;
+        this.events = events;
+        this.responseCache = responseCache;
     }
 
     private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName(); // assuming username = email
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found: " + email));
+        return accessService.getCurrentUser();
     }
 
     // CREATE
@@ -46,7 +51,7 @@ public class TournamentService {
 
         Tournament saved = tournamentRepository.save(t);
 
-        return toResponse(saved);
+        return published(saved);
     }
 
     // LIST (for logged-in user)
@@ -59,6 +64,11 @@ public class TournamentService {
                 .collect(Collectors.toList());
     }
 
+    // getMyTournaments as JSON, reused until the owner's tournaments change here or cache.response.local-ttl-ms passes; a hit needs no query
+    public byte[] getMyTournamentsJson() {
+        return responseCache.get(ResponseCache.owner(getCurrentUser().getId()), "tournaments", this::getMyTournaments);
+    }
+
     // GET BY ID (no owner check yet – you can restrict this if you want)
     @Transactional(readOnly = true)
     public TournamentResponse getTournament(Long id) {
@@ -67,6 +77,10 @@ public class TournamentService {
         return toResponse(t);
     }
 
+    public byte[] getTournamentJson(Long id) {
+        return responseCache.get(ResponseCache.tournament(id), "tournament", () -> getTournament(id));
+    }
+
     // DELETE – only if it belongs to current user
     @Transactional
     public void deleteTournament(Long id) {
@@ -78,6 +92,12 @@ public class TournamentService {
                 );
 
         tournamentRepository.delete(t);
+        accessService.evict(id);
+        standingsService.evictTournament(id);
+        responseCache.changed(ResponseCache.tournament(id));
+        responseCache.changed(ResponseCache.owner(owner.getId()));
+        events.publishEvent(new TournamentChangeEvent(id, TournamentChangeEvent.TOURNAMENT_UPDATE,
+                id, TournamentChangeEvent.deleted(id)));
     }
 
     // COPY – simple copy of basic info, still owned by current user
@@ -86,13 +106,8 @@ public class TournamentService {
     public TournamentResponse copyTournament(Long id, boolean includeTeams) {
         User owner = getCurrentUser();
 
-        Tournament original = tournamentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Tournament not found: " + id));
-
         // enforce ownership
-        if (!original.getOwner().getId().equals(owner.getId())) {
-            throw new IllegalStateException("You do not own this tournament.");
-        }
+        Tournament original = accessService.getOwnedTournament(id);
 
         Tournament copy = new Tournament();
         copy.setOwner(owner);
@@ -103,7 +118,7 @@ public class TournamentService {
         // NOTE: includeTeams is ignored for now because teams are not implemented yet
 
         Tournament savedCopy = tournamentRepository.save(copy);
-        return toResponse(savedCopy);
+        return published(savedCopy);
     }
 
     // Backwards-compatible overload used by older callers
@@ -112,6 +127,13 @@ public class TournamentService {
         return copyTournament(id, false);
     }
 
+    private TournamentResponse published(Tournament t) {
+        responseCache.changed(ResponseCache.owner(t.getOwner().getId()));
+        TournamentResponse response = toResponse(t);
+        events.publishEvent(new TournamentChangeEvent(t.getId(), TournamentChangeEvent.TOURNAMENT_UPDATE, t.getId(), response));
+        return response;
+    }
+
     private TournamentResponse toResponse(Tournament t) {
         return new TournamentResponse(
                 t.getId(),
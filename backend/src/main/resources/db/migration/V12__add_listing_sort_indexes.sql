@@ -0,0 +1,17 @@
+-- Composite indexes backing the paged/keyset listings so each page is an index range scan
+
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS idx_teams_tournament_name_id
+    ON teams (tournament_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_players_team_name_id
+    ON players (team_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_referees_tournament_name_id
+    ON referees (tournament_id, name, id);
+
+CREATE INDEX IF NOT EXISTS idx_administrators_tournament_created_id
+    ON administrators (tournament_id, created_at DESC, id DESC);
+
+COMMIT;
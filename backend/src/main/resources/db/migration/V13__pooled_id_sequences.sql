@@ -0,0 +1,9 @@
+-- Let Hibernate allocate ids in blocks of 50 (pooled optimizer) for the bulk-imported tables.
+-- IDENTITY ids disable JDBC insert batching; with pooled sequences one nextval covers 50 rows.
+-- The increment must match allocationSize on the entities. Plain SQL inserts still work through
+-- the column default, they just skip ahead by 50.
+
+ALTER SEQUENCE IF EXISTS teams_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS players_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS referees_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS administrators_id_seq INCREMENT BY 50;
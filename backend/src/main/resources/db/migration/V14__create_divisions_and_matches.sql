@@ -0,0 +1,54 @@
+-- Divisions group a tournament's teams; matches hold the generated fixtures.
+-- V5 dropped the old versions of these tables; column sizes follow database_migration.sql.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS divisions (
+    id            BIGSERIAL PRIMARY KEY,
+    tournament_id BIGINT NOT NULL REFERENCES tournaments (id) ON DELETE CASCADE,
+    name          VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_divisions_tournament_id
+    ON divisions (tournament_id);
+
+CREATE TABLE IF NOT EXISTS division_teams (
+    division_id BIGINT NOT NULL REFERENCES divisions (id) ON DELETE CASCADE,
+    team_id     BIGINT NOT NULL REFERENCES teams (id) ON DELETE CASCADE,
+    PRIMARY KEY (division_id, team_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_division_teams_team_id
+    ON division_teams (team_id);
+
+CREATE TABLE IF NOT EXISTS matches (
+    id             BIGSERIAL PRIMARY KEY,
+    tournament_id  BIGINT NOT NULL REFERENCES tournaments (id) ON DELETE CASCADE,
+    division_id    BIGINT NOT NULL REFERENCES divisions (id) ON DELETE CASCADE,
+    round          INTEGER NOT NULL,
+    group_label    VARCHAR(20),
+    home_team_id   BIGINT REFERENCES teams (id) ON DELETE CASCADE,
+    away_team_id   BIGINT REFERENCES teams (id) ON DELETE CASCADE,
+    venue          VARCHAR(500),
+    bracket_type   VARCHAR(20),
+    scheduled_time TIMESTAMP WITHOUT TIME ZONE,
+    home_score     INTEGER,
+    away_score     INTEGER,
+    status         VARCHAR(20) NOT NULL DEFAULT 'SCHEDULED',
+    created_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_matches_division_round
+    ON matches (division_id, round, id);
+
+CREATE INDEX IF NOT EXISTS idx_matches_tournament_id
+    ON matches (tournament_id);
+
+CREATE INDEX IF NOT EXISTS idx_matches_bracket_type
+    ON matches (bracket_type);
+
+-- generated schedules are inserted in JDBC batches (see V13)
+ALTER SEQUENCE IF EXISTS matches_id_seq INCREMENT BY 50;
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- Slot scheduling: each match gets a pitch at the venue and an officiating referee
+
+BEGIN;
+
+ALTER TABLE matches
+    ADD COLUMN IF NOT EXISTS pitch VARCHAR(100);
+
+ALTER TABLE matches
+    ADD COLUMN IF NOT EXISTS referee_id BIGINT REFERENCES referees (id) ON DELETE SET NULL;
+
+CREATE INDEX IF NOT EXISTS idx_matches_referee_id
+    ON matches (referee_id);
+
+CREATE INDEX IF NOT EXISTS idx_matches_tournament_time
+    ON matches (tournament_id, scheduled_time);
+
+COMMIT;
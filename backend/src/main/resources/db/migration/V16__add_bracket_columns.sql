@@ -0,0 +1,18 @@
+-- Elimination brackets: each knockout match is one node of the division's bracket, addressed by
+-- its index (bracket_slot); the division records the format and field size the bracket was built for
+
+BEGIN;
+
+ALTER TABLE divisions
+    ADD COLUMN IF NOT EXISTS bracket_format VARCHAR(20);
+
+ALTER TABLE divisions
+    ADD COLUMN IF NOT EXISTS bracket_entrants INTEGER;
+
+ALTER TABLE matches
+    ADD COLUMN IF NOT EXISTS bracket_slot INTEGER;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_matches_division_bracket_slot
+    ON matches (division_id, bracket_slot);
+
+COMMIT;
@@ -0,0 +1,9 @@
+-- Version stamp of a tournament's organizer data (teams, players, referees, administrators),
+-- bumped by every change to it; list endpoints use it as their ETag
+
+BEGIN;
+
+ALTER TABLE tournaments
+    ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
+
+COMMIT;
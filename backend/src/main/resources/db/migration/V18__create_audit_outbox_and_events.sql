@@ -0,0 +1,38 @@
+-- Audit trail of organizer changes (teams, players, referees, administrators). Services write to
+-- audit_outbox in the changing transaction; a background dispatcher moves rows in batches to the
+-- append-only audit_events, keeping their ids. Neither table references tournaments, so the
+-- history outlives deleted tournaments and entities.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS audit_outbox (
+    id            BIGSERIAL PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    actor_id      BIGINT,
+    actor_email   VARCHAR(255),
+    entity_type   VARCHAR(30) NOT NULL,
+    entity_id     BIGINT,
+    action        VARCHAR(20) NOT NULL,
+    payload       TEXT,
+    occurred_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+-- pooled ids, as in V13: allocationSize = 50 on AuditOutboxEntry
+ALTER SEQUENCE audit_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS audit_events (
+    id            BIGINT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    actor_id      BIGINT,
+    actor_email   VARCHAR(255),
+    entity_type   VARCHAR(30) NOT NULL,
+    entity_id     BIGINT,
+    action        VARCHAR(20) NOT NULL,
+    payload       TEXT,
+    occurred_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_tournament_id
+    ON audit_events (tournament_id, id);
+
+COMMIT;
@@ -0,0 +1,11 @@
+-- The audit log is listed newest first by (occurred_at, id). Ids come from a pooled sequence, so
+-- instances hand them out in blocks of 50 and id order is not the order the changes happened in.
+
+BEGIN;
+
+DROP INDEX IF EXISTS idx_audit_events_tournament_id;
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_tournament_occurred_at
+    ON audit_events (tournament_id, occurred_at, id);
+
+COMMIT;
@@ -0,0 +1,43 @@
+package com.tournapro.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LocalCacheStorageTest {
+
+    @Test
+    void dropsTheLeastRecentlyUsedEntryPastMaxEntries() {
+        LocalCacheStorage storage = new LocalCacheStorage(2, 0);
+        storage.putIntoCache(1L, "a", null);
+        storage.putIntoCache(2L, "b", null);
+        storage.getFromCache(1L, null);
+        storage.putIntoCache(3L, "c", null);
+
+        assertEquals("a", storage.getFromCache(1L, null));
+        assertNull(storage.getFromCache(2L, null));
+        assertEquals("c", storage.getFromCache(3L, null));
+    }
+
+    @Test
+    void expiredEntriesAreAbsent() throws InterruptedException {
+        LocalCacheStorage storage = new LocalCacheStorage(10, 1);
+        storage.putIntoCache(1L, "a", null);
+        Thread.sleep(20);
+        assertFalse(storage.contains(1L));
+        assertNull(storage.getFromCache(1L, null));
+    }
+
+    @Test
+    void evictionRemovesEntries() {
+        LocalCacheStorage storage = new LocalCacheStorage(10, 0);
+        storage.putIntoCache(1L, "a", null);
+        storage.putIntoCache(2L, "b", null);
+        storage.evictData(1L);
+        assertNull(storage.getFromCache(1L, null));
+        storage.evictData();
+        assertNull(storage.getFromCache(2L, null));
+    }
+}
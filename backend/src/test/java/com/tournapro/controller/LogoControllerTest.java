@@ -0,0 +1,64 @@
+package com.tournapro.controller;
+
+import com.tournapro.service.LogoImageProcessor;
+import com.tournapro.service.LogoStorageService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogoControllerTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String ORIGINAL = HASH + ".png";
+
+    @Test
+    void thumbnailUrlServingTheOriginalIsNotCachedForever() throws IOException {
+        Path dir = Files.createTempDirectory("logos-");
+        Files.write(dir.resolve(ORIGINAL), new byte[]{1});
+        LogoController controller = controller(dir);
+
+        // 64 px is not rendered yet, so the original stands in for it
+        ResponseEntity<?> ok = controller.getLogo(ORIGINAL, 64, null);
+        assertEquals(HttpStatus.OK, ok.getStatusCode());
+        assertEquals("\"" + HASH + "\"", ok.getHeaders().getETag());
+        assertFalse(ok.getHeaders().getCacheControl().contains("immutable"), ok.getHeaders().getCacheControl());
+        assertTrue(ok.getHeaders().getCacheControl().contains("no-cache"));
+
+        ResponseEntity<?> notModified = controller.getLogo(ORIGINAL, 64, "\"" + HASH + "\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertFalse(notModified.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void originalsAndRenderedThumbnailsAreImmutable() throws IOException {
+        Path dir = Files.createTempDirectory("logos-");
+        Files.write(dir.resolve(ORIGINAL), new byte[]{1});
+        Files.write(LogoImageProcessor.variantPath(dir, HASH, 64), new byte[]{2});
+        LogoController controller = controller(dir);
+
+        ResponseEntity<?> original = controller.getLogo(ORIGINAL, null, null);
+        assertTrue(original.getHeaders().getCacheControl().contains("immutable"));
+
+        ResponseEntity<?> thumbnail = controller.getLogo(ORIGINAL, 64, null);
+        assertEquals("\"" + HASH + "-64\"", thumbnail.getHeaders().getETag());
+        assertTrue(thumbnail.getHeaders().getCacheControl().contains("immutable"));
+
+        // larger than every variant: the original is the final answer
+        ResponseEntity<?> large = controller.getLogo(ORIGINAL, 1024, "\"" + HASH + "\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, large.getStatusCode());
+        assertTrue(large.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    private static LogoController controller(Path dir) throws IOException {
+        LogoImageProcessor processor = new LogoImageProcessor(16_000_000, 1, 10);
+        return new LogoController(new LogoStorageService(dir.toString(), 5_242_880, processor));
+    }
+}
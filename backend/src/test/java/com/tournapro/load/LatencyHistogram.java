@@ -0,0 +1,84 @@
+package com.tournapro.load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in microseconds with about 1.5% relative error: values below 128
+ * are counted exactly, larger ones by their top seven bits. A percentile is the lower bound of
+ * the bucket it falls in, so reported values never overstate a latency by more than the bucket
+ * width. Covers up to about 12 days.
+ */
+final class LatencyHistogram {
+
+    private static final int EXACT = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 34;
+
+    private final AtomicLongArray counts = new AtomicLongArray(EXACT + MAX_SHIFT * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    void record(long micros) {
+        long v = Math.max(0, micros);
+        counts.incrementAndGet(index(v));
+        total.increment();
+        sum.add(v);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    double mean() {
+        long n = total.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /** The latency {@code q} (0..1) of all recorded ones are at or below; 0 when empty. */
+    long percentile(double q) {
+        long n = total.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * n));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return lowerBound(i);
+            }
+        }
+        return lowerBound(counts.length() - 1);
+    }
+
+    long max() {
+        for (int i = counts.length() - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return lowerBound(i);
+            }
+        }
+        return 0;
+    }
+
+    static int index(long micros) {
+        if (micros < EXACT) {
+            return (int) micros;
+        }
+        // micros >>> shift keeps the top seven bits, 64..127
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 6;
+        if (shift > MAX_SHIFT) {
+            return EXACT + MAX_SHIFT * SUB_BUCKETS - 1;
+        }
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    static long lowerBound(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int shift = (index - EXACT) / SUB_BUCKETS + 1;
+        long top = (index - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+        return top << shift;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tournapro.load;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesAreExactAndLargeOnesWithinBucketError() {
+        for (long v = 0; v < 128; v++) {
+            assertEquals(v, LatencyHistogram.lowerBound(LatencyHistogram.index(v)));
+        }
+        for (long v = 128; v < 50_000_000; v = v * 3 / 2 + 7) {
+            long bound = LatencyHistogram.lowerBound(LatencyHistogram.index(v));
+            assertTrue(bound <= v && v - bound <= v / 64, v + " -> " + bound);
+        }
+        // bucket indexes grow with the value
+        int previous = -1;
+        for (long v = 0; v < 1_000_000; v += 97) {
+            int index = LatencyHistogram.index(v);
+            assertTrue(index >= previous);
+            previous = index;
+        }
+    }
+
+    @Test
+    void percentilesFollowTheRecordedDistribution() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentile(0.5));
+        for (int i = 1; i <= 1000; i++) {
+            h.record(i * 1000L); // 1ms .. 1s
+        }
+        assertEquals(1000, h.count());
+        assertNear(500_000, h.percentile(0.50));
+        assertNear(990_000, h.percentile(0.99));
+        assertNear(1_000_000, h.max());
+        assertNear(500_500, (long) h.mean());
+    }
+
+    private static void assertNear(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / 50, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,121 @@
+package com.tournapro.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP calls of the load driver. Every call is timed into {@link LoadStats} under its endpoint
+ * name; 2xx and 304 count as success. GETs can send the ETag seen last time for the same path,
+ * as browsers do, so revalidation is part of the measured traffic.
+ */
+final class LoadClient {
+
+    private static final ObjectMapper JSON = new ObjectMapper().findAndRegisterModules();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LoadStats stats;
+
+    LoadClient(String baseUrl, LoadStats stats) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    /** GET with If-None-Match from {@code etags} (per virtual user); returns the status code. */
+    int get(String endpoint, String path, String token, Map<String, String> etags) {
+        HttpRequest.Builder request = request(path, token).GET();
+        String etag = etags != null ? etags.get(path) : null;
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        HttpResponse<byte[]> response = send(endpoint, request.build());
+        if (response == null) {
+            return 0;
+        }
+        if (etags != null) {
+            response.headers().firstValue("ETag").ifPresent(tag -> etags.put(path, tag));
+        }
+        return response.statusCode();
+    }
+
+    /** POST/PUT of a JSON body; returns the parsed response, or null on failure. */
+    JsonNode send(String endpoint, String method, String path, String token, Object body) {
+        HttpRequest request = request(path, token)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(write(body)))
+                .build();
+        HttpResponse<byte[]> response = send(endpoint, request);
+        return response != null && response.statusCode() / 100 == 2 ? read(response.body()) : null;
+    }
+
+    /** Untimed GET for seeding and lookups; throws when it fails. */
+    JsonNode fetch(String path, String token) {
+        try {
+            HttpResponse<byte[]> response = http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+            }
+            return read(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("GET " + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return response;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            int status = response != null ? response.statusCode() : 0;
+            stats.record(endpoint, (System.nanoTime() - start) / 1000, status / 100 == 2 || status == 304);
+        }
+    }
+
+    private static byte[] write(Object body) {
+        try {
+            return JSON.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request", e);
+        }
+    }
+
+    private static JsonNode read(byte[] body) {
+        try {
+            return body.length == 0 ? JSON.nullNode() : JSON.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response is not JSON", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.tournapro.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Latency and error counts per endpoint (method plus route template) of one load run. */
+final class LoadStats {
+
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long micros, boolean ok) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.latency.record(micros);
+        if (!ok) {
+            e.errors.increment();
+        }
+    }
+
+    long requests() {
+        return endpoints.values().stream().mapToLong(e -> e.latency.count()).sum();
+    }
+
+    long errors() {
+        return endpoints.values().stream().mapToLong(e -> e.errors.sum()).sum();
+    }
+
+    /** Fixed-width table, one row per endpoint plus a total. */
+    String table(double seconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-60s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, Endpoint> row : new TreeMap<>(endpoints).entrySet()) {
+            LatencyHistogram h = row.getValue().latency;
+            sb.append(String.format("%-60s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                    row.getKey(), h.count(), row.getValue().errors.sum(), h.count() / seconds,
+                    h.percentile(0.50) / 1000.0, h.percentile(0.99) / 1000.0, h.max() / 1000.0));
+        }
+        sb.append(String.format("%-60s %9d %7d %9.1f%n", "TOTAL", requests(), errors(), requests() / seconds));
+        return sb.toString();
+    }
+
+    /** The same numbers as JSON, so runs can be compared by a script. */
+    void writeJson(Path file, double seconds, Map<String, Object> settings) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, Endpoint> row : new TreeMap<>(endpoints).entrySet()) {
+            LatencyHistogram h = row.getValue().latency;
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("endpoint", row.getKey());
+            r.put("requests", h.count());
+            r.put("errors", row.getValue().errors.sum());
+            r.put("requestsPerSecond", h.count() / seconds);
+            r.put("p50Micros", h.percentile(0.50));
+            r.put("p99Micros", h.percentile(0.99));
+            r.put("maxMicros", h.max());
+            r.put("meanMicros", h.mean());
+            rows.add(r);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("durationSeconds", seconds);
+        report.put("requests", requests());
+        report.put("errors", errors());
+        report.put("endpoints", rows);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static final class Endpoint {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,275 @@
+package com.tournapro.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Match-day load: organizers editing rosters and entering results while spectators read the
+ * public pages, against the real controllers on an in-memory H2 database. Skipped unless run
+ * explicitly:
+ * <pre>
+ * mvn test -Dtest=MatchDayLoadTest -Dload=true [-Dload.organizers=50 -Dload.spectators=500 ...]
+ * </pre>
+ * Seeding goes through the API too (register, tournament, bulk teams/players/referees, one
+ * division with a generated schedule per organizer). The report (requests, errors, req/s,
+ * p50/p99/max per endpoint) is logged and written to {@code target/load-report.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "logging.level.org.springframework.security=INFO"
+})
+@EnabledIfSystemProperty(named = "load", matches = "true")
+class MatchDayLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchDayLoadTest.class);
+
+    private static final int ORGANIZERS = Integer.getInteger("load.organizers", 50);
+    private static final int SPECTATORS = Integer.getInteger("load.spectators", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 60);
+    private static final int TEAMS = Integer.getInteger("load.teams", 16);
+    private static final int PLAYERS = Integer.getInteger("load.players", 15);
+    private static final int REFEREES = Integer.getInteger("load.referees", 8);
+    // mean pause between two requests of one user; organizers pause longer than spectators poll
+    private static final int ORGANIZER_THINK_MS = Integer.getInteger("load.organizer-think-ms", 500);
+    private static final int SPECTATOR_THINK_MS = Integer.getInteger("load.spectator-think-ms", 200);
+    private static final String REPORT = System.getProperty("load.report", "target/load-report.json");
+
+    @LocalServerPort
+    private int port;
+
+    // -Dspring.threads.virtual.enabled=true (on Java 21) to compare against virtual-thread mode
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void matchDay() throws Exception {
+        String baseUrl = "http://localhost:" + port;
+        List<SeededTournament> tournaments = seed(new LoadClient(baseUrl, new LoadStats()));
+
+        LoadStats stats = new LoadStats();
+        LoadClient client = new LoadClient(baseUrl, stats);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        ExecutorService users = Executors.newFixedThreadPool(ORGANIZERS + SPECTATORS);
+        long start = System.nanoTime();
+        try {
+            for (SeededTournament t : tournaments) {
+                users.execute(() -> organizer(client, t, deadline));
+            }
+            for (int i = 0; i < SPECTATORS; i++) {
+                users.execute(() -> spectator(client, tournaments, deadline));
+            }
+        } finally {
+            users.shutdown();
+            users.awaitTermination(DURATION_SECONDS + 60, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("Match-day load: {} organizers, {} spectators, {}s, virtual threads {}\n{}",
+                ORGANIZERS, SPECTATORS, DURATION_SECONDS, virtualThreads, stats.table(seconds));
+        stats.writeJson(Path.of(REPORT), seconds, settings());
+
+        assertTrue(stats.requests() > 0, "no requests were made");
+        assertTrue(stats.errors() * 100 < stats.requests(),
+                stats.errors() + " of " + stats.requests() + " requests failed");
+    }
+
+    private void organizer(LoadClient client, SeededTournament t, long deadline) {
+        Map<String, String> etags = new HashMap<>();
+        String base = "/api/tournaments/" + t.id;
+        while (System.nanoTime() < deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int op = random.nextInt(100);
+            long teamId = t.teamIds.get(random.nextInt(t.teamIds.size()));
+            if (op < 35) {
+                client.get("GET /api/tournaments/{tournamentId}/teams", base + "/teams", t.token, etags);
+            } else if (op < 55) {
+                client.get("GET /api/tournaments/{tournamentId}/teams/{teamId}/players",
+                        base + "/teams/" + teamId + "/players", t.token, etags);
+            } else if (op < 65) {
+                client.get("GET /api/tournaments/{tournamentId}/referees", base + "/referees", t.token, etags);
+            } else if (op < 80) {
+                int i = random.nextInt(t.playerIds.size());
+                client.send("PUT /api/tournaments/{tournamentId}/teams/{teamId}/players/{playerId}", "PUT",
+                        base + "/teams/" + t.playerTeamIds.get(i) + "/players/" + t.playerIds.get(i), t.token,
+                        player("Edited player " + random.nextInt(1000), random.nextInt(1, 100)));
+            } else if (op < 90) {
+                client.send("POST /api/tournaments/{tournamentId}/teams/{teamId}/players", "POST",
+                        base + "/teams/" + teamId + "/players", t.token,
+                        player("Late signing " + random.nextInt(1000), random.nextInt(1, 100)));
+            } else {
+                long matchId = t.matchIds.get(random.nextInt(t.matchIds.size()));
+                client.send("PUT /api/tournaments/{tournamentId}/matches/{matchId}/result", "PUT",
+                        base + "/matches/" + matchId + "/result", t.token,
+                        Map.of("homeScore", random.nextInt(5), "awayScore", random.nextInt(5)));
+            }
+            think(ORGANIZER_THINK_MS);
+        }
+    }
+
+    private void spectator(LoadClient client, List<SeededTournament> tournaments, long deadline) {
+        Map<String, String> etags = new HashMap<>();
+        // a few tournaments draw most of the crowd
+        double r = ThreadLocalRandom.current().nextDouble();
+        SeededTournament t = tournaments.get((int) (r * r * tournaments.size()));
+        while (System.nanoTime() < deadline) {
+            int op = ThreadLocalRandom.current().nextInt(100);
+            if (op < 25) {
+                client.get("GET /api/public/tournaments/{id}", "/api/public/tournaments/" + t.id, null, etags);
+            } else if (op < 40) {
+                client.get("GET /api/public/tournaments/{id}/teams", "/api/public/tournaments/" + t.id + "/teams", null, etags);
+            } else if (op < 70) {
+                client.get("GET /api/public/divisions/{id}/matches", "/api/public/divisions/" + t.divisionId + "/matches", null, etags);
+            } else {
+                client.get("GET /api/public/divisions/{id}/standings", "/api/public/divisions/" + t.divisionId + "/standings", null, etags);
+            }
+            think(SPECTATOR_THINK_MS);
+        }
+    }
+
+    private List<SeededTournament> seed(LoadClient client) throws Exception {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(ORGANIZERS, 16));
+        try {
+            List<Future<SeededTournament>> futures = new ArrayList<>();
+            for (int i = 0; i < ORGANIZERS; i++) {
+                int n = i;
+                futures.add(pool.submit(() -> seedOne(client, n)));
+            }
+            List<SeededTournament> tournaments = new ArrayList<>();
+            for (Future<SeededTournament> f : futures) {
+                tournaments.add(f.get());
+            }
+            log.info("Seeded {} tournaments ({} teams, {} players per team, {} referees each) in {} ms",
+                    ORGANIZERS, TEAMS, PLAYERS, REFEREES, (System.nanoTime() - start) / 1_000_000);
+            return tournaments;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private SeededTournament seedOne(LoadClient client, int n) {
+        SeededTournament t = new SeededTournament();
+        JsonNode auth = required(client.send("seed", "POST", "/api/auth/register", null, Map.of(
+                "fullName", "Organizer " + n,
+                "email", "organizer" + n + "-" + UUID.randomUUID() + "@load.test",
+                "password", "load-test-password",
+                "confirmPassword", "load-test-password")), "register");
+        t.token = auth.get("token").asText();
+
+        JsonNode tournament = required(client.send("seed", "POST", "/api/tournaments", t.token, Map.of(
+                "title", "Load Cup " + n, "startDate", "2025-06-01", "primaryVenue", "Sports Park")), "tournament");
+        t.id = tournament.get("id").asLong();
+        String base = "/api/tournaments/" + t.id;
+
+        List<Map<String, Object>> teams = new ArrayList<>();
+        for (int i = 1; i <= TEAMS; i++) {
+            teams.add(Map.of("name", "Team " + n + "-" + i, "shortName", "T" + i, "country", "NL",
+                    "email", "team" + i + "@load.test", "present", true, "paid", i % 4 != 0));
+        }
+        for (JsonNode team : required(client.send("seed", "POST", base + "/teams/bulk", t.token, teams), "teams")) {
+            t.teamIds.add(team.get("id").asLong());
+        }
+
+        for (long teamId : t.teamIds) {
+            List<Map<String, Object>> players = new ArrayList<>();
+            for (int i = 1; i <= PLAYERS; i++) {
+                players.add(player("Player " + teamId + "-" + i, i));
+            }
+            for (JsonNode player : required(client.send("seed", "POST", base + "/teams/" + teamId + "/players/bulk", t.token, players), "players")) {
+                t.playerIds.add(player.get("id").asLong());
+                t.playerTeamIds.add(teamId);
+            }
+        }
+
+        List<Map<String, Object>> referees = new ArrayList<>();
+        for (int i = 1; i <= REFEREES; i++) {
+            referees.add(Map.of("name", "Referee " + i, "email", "ref" + i + "@load.test", "role", "Main"));
+        }
+        required(client.send("seed", "POST", base + "/referees/bulk", t.token, referees), "referees");
+
+        JsonNode division = required(client.send("seed", "POST", base + "/divisions", t.token, Map.of(
+                "name", "Open", "teamIds", t.teamIds)), "division");
+        t.divisionId = division.get("id").asLong();
+        required(client.send("seed", "POST", base + "/divisions/" + t.divisionId + "/generate-schedule", t.token, Map.of(
+                "groups", Math.max(1, TEAMS / 8), "doubleRoundRobin", false)), "schedule");
+        for (JsonNode match : client.fetch(base + "/divisions/" + t.divisionId + "/matches", t.token)) {
+            t.matchIds.add(match.get("id").asLong());
+        }
+        return t;
+    }
+
+    private static Map<String, Object> player(String name, int number) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("name", name);
+        p.put("dob", "2008-04-12");
+        p.put("number", number);
+        return p;
+    }
+
+    private static JsonNode required(JsonNode node, String step) {
+        if (node == null) {
+            throw new IllegalStateException("Seeding failed at " + step);
+        }
+        return node;
+    }
+
+    private static void think(int meanMillis) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2 * meanMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> settings() {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("javaVersion", Runtime.version().feature());
+        s.put("virtualThreads", virtualThreads);
+        s.put("organizers", ORGANIZERS);
+        s.put("spectators", SPECTATORS);
+        s.put("durationSeconds", DURATION_SECONDS);
+        s.put("teamsPerTournament", TEAMS);
+        s.put("playersPerTeam", PLAYERS);
+        s.put("refereesPerTournament", REFEREES);
+        s.put("organizerThinkMs", ORGANIZER_THINK_MS);
+        s.put("spectatorThinkMs", SPECTATOR_THINK_MS);
+        return s;
+    }
+
+    private static final class SeededTournament {
+        String token;
+        long id;
+        long divisionId;
+        final List<Long> teamIds = new ArrayList<>();
+        final List<Long> playerIds = new ArrayList<>();
+        final List<Long> playerTeamIds = new ArrayList<>();
+        final List<Long> matchIds = new ArrayList<>();
+    }
+}
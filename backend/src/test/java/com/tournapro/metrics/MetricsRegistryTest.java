@@ -0,0 +1,55 @@
+package com.tournapro.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+
+    @Test
+    void writesCumulativeHistogramBuckets() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRegistry.Timer timer = registry.timer("op_seconds", "Op time", "method", "get");
+        timer.record(TimeUnit.MICROSECONDS.toNanos(500));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(30));
+        timer.record(TimeUnit.SECONDS.toNanos(20));
+        assertSame(timer, registry.timer("op_seconds", "Op time", "method", "get"));
+
+        String text = registry.scrape();
+        assertTrue(text.contains("# TYPE op_seconds histogram\n"));
+        assertTrue(text.contains("op_seconds_bucket{method=\"get\",le=\"0.001\"} 1\n"));
+        assertTrue(text.contains("op_seconds_bucket{method=\"get\",le=\"0.025\"} 1\n"));
+        assertTrue(text.contains("op_seconds_bucket{method=\"get\",le=\"0.05\"} 2\n"));
+        assertTrue(text.contains("op_seconds_bucket{method=\"get\",le=\"10.0\"} 2\n"));
+        assertTrue(text.contains("op_seconds_bucket{method=\"get\",le=\"+Inf\"} 3\n"));
+        assertTrue(text.contains("op_seconds_count{method=\"get\"} 3\n"));
+    }
+
+    @Test
+    void escapesLabelValuesAndCapsSeries() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("rows", "Rows", "type", "a\"b\\c").increment(2);
+        assertTrue(registry.scrape().contains("rows_total{type=\"a\\\"b\\\\c\"} 2\n"));
+
+        for (int i = 0; i < MetricsRegistry.MAX_SERIES + 10; i++) {
+            registry.counter("ids", "Ids", "id", Integer.toString(i)).increment();
+        }
+        long series = registry.scrape().lines().filter(l -> l.startsWith("ids_total")).count();
+        assertEquals(MetricsRegistry.MAX_SERIES, series);
+    }
+
+    @Test
+    void namesSampledCountersLikeCounters() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counterFunction("hits", "Hits", () -> 7L, "region", "teams");
+        registry.gauge("pool_size", "Pool size", () -> 3);
+
+        String text = registry.scrape();
+        assertTrue(text.contains("# TYPE hits counter\nhits_total{region=\"teams\"} 7\n"));
+        assertTrue(text.contains("pool_size 3\n"));
+    }
+}
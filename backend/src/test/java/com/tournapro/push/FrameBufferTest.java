@@ -0,0 +1,46 @@
+package com.tournapro.push;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FrameBufferTest {
+
+    @Test
+    void replaysFramesAfterTheLastSeenId() {
+        FrameBuffer buffer = new FrameBuffer(4, 100);
+        buffer.add(101, "a");
+        buffer.add(105, "b");
+        buffer.add(107, "c");
+
+        List<FrameBuffer.Frame> missed = buffer.since(101, 107);
+        assertEquals(2, missed.size());
+        assertEquals("b", missed.get(0).data);
+        assertEquals(107, missed.get(1).id);
+        assertEquals(0, buffer.since(107, 107).size());
+        // nothing happened to this tournament between its creation and the client's id
+        assertEquals(3, buffer.since(100, 107).size());
+    }
+
+    @Test
+    void overwrittenFramesCannotBeReplayed() {
+        FrameBuffer buffer = new FrameBuffer(2, 0);
+        buffer.add(1, "a");
+        buffer.add(2, "b");
+        buffer.add(3, "c");
+
+        assertNull(buffer.since(0, 3));
+        assertEquals(1, buffer.since(2, 3).size());
+        assertEquals(2, buffer.since(1, 3).size());
+    }
+
+    @Test
+    void idsFromBeforeARestartOrFromTheFutureNeedAReset() {
+        FrameBuffer buffer = new FrameBuffer(8, 1_000);
+        assertNull(buffer.since(999, 1_000));
+        assertNull(buffer.since(5_000, 1_000));
+    }
+}
@@ -0,0 +1,59 @@
+package com.tournapro.security;
+
+import com.tournapro.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserCacheInvalidationListenerTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(10, 3_600_000);
+    private final UserCacheInvalidationListener listener = new UserCacheInvalidationListener(cache);
+    private final User alice = VerifiedTokenCacheTest.user(1L, "alice@example.com");
+
+    @Test
+    void evictsOnlyAfterCommit() {
+        cache.put("token", alice, new Date(System.currentTimeMillis() + 60_000));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onUserChanged(alice);
+            // flushed but not committed: the old principal is still the right one
+            assertSame(alice, cache.get("token"));
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertNull(cache.get("token"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void keepsEntriesOnRollback() {
+        cache.put("token", alice, new Date(System.currentTimeMillis() + 60_000));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onUserChanged(alice);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertSame(alice, cache.get("token"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsAtOnceOutsideATransaction() {
+        cache.put("token", alice, new Date(System.currentTimeMillis() + 60_000));
+        listener.onUserChanged(alice);
+        assertNull(cache.get("token"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.tournapro.security;
+
+import com.tournapro.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VerifiedTokenCacheTest {
+
+    private static final long HOUR = 3_600_000;
+
+    @Test
+    void entriesExpireAfterTheTtl() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 50);
+        User alice = user(1L, "alice@example.com");
+        cache.put("token-a", alice, inMillis(HOUR));
+        assertSame(alice, cache.get("token-a"));
+
+        Thread.sleep(80);
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    void tokenExpirationCapsTheTtl() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, HOUR);
+        User alice = user(1L, "alice@example.com");
+
+        cache.put("expired", alice, inMillis(-1000));
+        assertNull(cache.get("expired"));
+        assertEquals(0, cache.size());
+
+        cache.put("expiring", alice, inMillis(50));
+        assertSame(alice, cache.get("expiring"));
+        Thread.sleep(80);
+        assertNull(cache.get("expiring"));
+    }
+
+    @Test
+    void staysWithinMaxEntries() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, HOUR);
+        User alice = user(1L, "alice@example.com");
+        cache.put("t1", alice, inMillis(50));
+        cache.put("t2", alice, inMillis(HOUR));
+
+        // full of live tokens: the new one is not cached
+        cache.put("t3", alice, inMillis(HOUR));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("t3"));
+
+        // once one has expired it makes room
+        Thread.sleep(80);
+        cache.put("t4", alice, inMillis(HOUR));
+        assertEquals(2, cache.size());
+        assertSame(alice, cache.get("t4"));
+        assertSame(alice, cache.get("t2"));
+    }
+
+    @Test
+    void invalidateUserDropsEveryTokenOfThatUser() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, HOUR);
+        User alice = user(1L, "alice@example.com");
+        User bob = user(2L, "bob@example.com");
+        cache.put("alice-1", alice, inMillis(HOUR));
+        cache.put("alice-2", alice, inMillis(HOUR));
+        cache.put("bob-1", bob, inMillis(HOUR));
+
+        // by id, although the email has changed since the tokens were cached
+        cache.invalidateUser(1L, "alice@new.example.com");
+        assertNull(cache.get("alice-1"));
+        assertNull(cache.get("alice-2"));
+        assertSame(bob, cache.get("bob-1"));
+
+        // by name
+        cache.invalidateUser(null, "bob@example.com");
+        assertEquals(0, cache.size());
+    }
+
+    static User user(Long id, String email) {
+        User u = new User();
+        u.setId(id);
+        u.setEmail(email);
+        u.setRole(User.Role.ORGANIZER);
+        u.setEnabled(true);
+        return u;
+    }
+
+    private static Date inMillis(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+}
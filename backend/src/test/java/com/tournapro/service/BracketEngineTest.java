@@ -0,0 +1,116 @@
+package com.tournapro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BracketEngineTest {
+
+    @Test
+    void seedOrderKeepsTopSeedsApart() {
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, BracketEngine.seedOrder(8));
+    }
+
+    @Test
+    void byesGoToTheTopSeeds() {
+        BracketEngine.Bracket b = BracketEngine.build(5, false);
+        assertEquals(8, b.size());
+        assertEquals(7, b.nodeCount());
+
+        int walkovers = 0;
+        for (int node = 0; node < 4; node++) {
+            if (b.isWalkover(node)) {
+                walkovers++;
+                int present = b.sideEmpty(node, 0) ? b.awaySeed(node) : b.homeSeed(node);
+                assertTrue(present <= 3, "bye for seed " + present);
+            }
+        }
+        assertEquals(3, walkovers);
+    }
+
+    @Test
+    void singleEliminationPlaysEntrantsMinusOneMatches() {
+        for (int entrants = 2; entrants <= 70; entrants++) {
+            int[] played = simulate(BracketEngine.build(entrants, false), new Random(entrants));
+            assertEquals(entrants - 1, played[0], "entrants " + entrants);
+            assertEquals(1, played[1], "champions with no loss, entrants " + entrants);
+        }
+    }
+
+    @Test
+    void doubleEliminationEliminatesOnSecondLoss() {
+        for (int entrants = 3; entrants <= 70; entrants++) {
+            BracketEngine.Bracket b = BracketEngine.build(entrants, true);
+            assertEquals(2 * b.size() - 2, b.nodeCount());
+            int[] played = simulate(b, new Random(entrants));
+            // no reset match: everyone but the champion loses twice, except a beaten winners-bracket champion
+            assertEquals(2 * entrants - 2, played[0], "entrants " + entrants);
+        }
+    }
+
+    @Test
+    void rejectsTooSmallFields() {
+        assertThrows(IllegalArgumentException.class, () -> BracketEngine.build(1, false));
+        assertThrows(IllegalArgumentException.class, () -> BracketEngine.build(2, true));
+    }
+
+    // plays the bracket through with random winners; returns {matches played, teams without a loss}
+    private static int[] simulate(BracketEngine.Bracket b, Random random) {
+        int n = b.nodeCount();
+        int[] home = new int[n];
+        int[] away = new int[n];
+        Arrays.fill(home, -1);
+        Arrays.fill(away, -1);
+        for (int node = 0; node < n; node++) {
+            if (b.homeSeed(node) > 0 && !b.sideEmpty(node, 0)) home[node] = b.homeSeed(node) - 1;
+            if (b.awaySeed(node) > 0 && !b.sideEmpty(node, 1)) away[node] = b.awaySeed(node) - 1;
+        }
+
+        int[] losses = new int[b.entrants()];
+        int played = 0;
+        for (int node = 0; node < n; node++) {
+            if (b.isDead(node)) {
+                assertEquals(-1, home[node]);
+                assertEquals(-1, away[node]);
+                continue;
+            }
+            int winner;
+            int loser = -1;
+            if (b.isWalkover(node)) {
+                winner = b.sideEmpty(node, 0) ? away[node] : home[node];
+                assertEquals(-1, b.sideEmpty(node, 0) ? home[node] : away[node]);
+            } else {
+                played++;
+                boolean homeWins = random.nextBoolean();
+                winner = homeWins ? home[node] : away[node];
+                loser = homeWins ? away[node] : home[node];
+                losses[loser]++;
+            }
+            assertTrue(winner >= 0, "node " + node + " has no entrant");
+            if (b.winTo(node) != BracketEngine.NONE) {
+                put(b.winTo(node), b.winSide(node), winner, home, away);
+            }
+            if (loser >= 0 && b.loseTo(node) != BracketEngine.NONE) {
+                put(b.loseTo(node), b.loseSide(node), loser, home, away);
+            }
+        }
+
+        int unbeaten = 0;
+        for (int l : losses) {
+            if (l == 0) unbeaten++;
+        }
+        return new int[]{played, unbeaten};
+    }
+
+    private static void put(int node, int side, int team, int[] home, int[] away) {
+        int[] target = side == 0 ? home : away;
+        assertEquals(-1, target[node], "side filled twice at node " + node);
+        target[node] = team;
+    }
+}
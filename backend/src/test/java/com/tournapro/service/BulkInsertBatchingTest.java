@@ -0,0 +1,142 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.CreatePlayerRequest;
+import com.tournapro.dto.CreateTeamRequest;
+import com.tournapro.dto.TeamResponse;
+import com.tournapro.entity.Tournament;
+import com.tournapro.entity.User;
+import com.tournapro.repository.TournamentRepository;
+import com.tournapro.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that bulk inserts are JDBC-batched: before the switch to pooled sequences every row was
+ * its own INSERT round trip (one prepared statement per row). Also logs rows/sec for comparison.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bulktest",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false"
+})
+class BulkInsertBatchingTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBatchingTest.class);
+
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User owner = new User();
+        owner.setEmail("bulk-" + UUID.randomUUID() + "@example.com");
+        owner.setPassword("secret");
+        owner.setRole(User.Role.ORGANIZER);
+        owner.setEnabled(true);
+        owner = userRepository.save(owner);
+
+        Tournament t = new Tournament();
+        t.setOwner(owner);
+        t.setTitle("Bulk Cup");
+        tournament = tournamentRepository.save(t);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner, null, owner.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void teamBulkCreateIsBatched() {
+        List<CreateTeamRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            CreateTeamRequest r = new CreateTeamRequest();
+            r.setName("Team " + i);
+            requests.add(r);
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        List<TeamResponse> created = teamService.bulkCreate(tournament.getId(), requests);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(ROWS, created.size());
+        // plus the one audit entry for the batch
+        assertEquals(ROWS + 1, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < ROWS / 10,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+        log.info("teams bulkCreate: {} rows/sec ({} statements for {} rows)",
+                ROWS * 1_000_000_000L / Math.max(elapsed, 1), statistics.getPrepareStatementCount(), ROWS);
+    }
+
+    @Test
+    void playerBulkCreateIsBatched() {
+        CreateTeamRequest team = new CreateTeamRequest();
+        team.setName("Roster FC");
+        Long teamId = teamService.createTeam(tournament.getId(), team).getId();
+
+        List<CreatePlayerRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            CreatePlayerRequest r = new CreatePlayerRequest();
+            r.setName("Player " + i);
+            r.setNumber(i);
+            requests.add(r);
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        playerService.bulkCreate(tournament.getId(), teamId, requests);
+        long elapsed = System.nanoTime() - start;
+
+        // plus the one audit entry for the batch
+        assertEquals(ROWS + 1, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < ROWS / 10,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+        log.info("players bulkCreate: {} rows/sec ({} statements for {} rows)",
+                ROWS * 1_000_000_000L / Math.max(elapsed, 1), statistics.getPrepareStatementCount(), ROWS);
+    }
+}
@@ -0,0 +1,70 @@
+package com.tournapro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogoImageProcessorTest {
+
+    private final LogoImageProcessor processor = new LogoImageProcessor(1_000_000, 1, 1);
+
+    @Test
+    void rejectsBytesNoReaderCanDecode() throws IOException {
+        Path file = Files.createTempFile("logo-", ".png");
+        Files.write(file, "<svg onload=alert(1)>".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> processor.validatePixels(file));
+    }
+
+    @Test
+    void readsWebpSizeFromTheHeader() throws IOException {
+        // lossy: 14-bit width and height after the frame start code
+        byte[] vp8 = webp("VP8 ");
+        vp8[23] = (byte) 0x9d;
+        vp8[24] = 0x01;
+        vp8[25] = 0x2a;
+        vp8[26] = (byte) 0x90; // 400
+        vp8[27] = 0x01;
+        vp8[28] = (byte) 0x2c; // 300
+        vp8[29] = 0x01;
+        assertEquals(400L * 300, LogoImageProcessor.webpPixels(write(vp8)));
+
+        // lossless: width-1 and height-1 packed into 14-bit fields
+        byte[] vp8l = webp("VP8L");
+        vp8l[20] = 0x2f;
+        long bits = 399 | (299L << 14);
+        for (int i = 0; i < 4; i++) {
+            vp8l[21 + i] = (byte) (bits >> (8 * i));
+        }
+        assertEquals(400L * 300, LogoImageProcessor.webpPixels(write(vp8l)));
+
+        // extended: 24-bit canvas width-1 and height-1, here 5000 x 5000, over the limit
+        byte[] vp8x = webp("VP8X");
+        vp8x[24] = (byte) 0x87;
+        vp8x[25] = 0x13;
+        vp8x[27] = (byte) 0x87;
+        vp8x[28] = 0x13;
+        Path large = write(vp8x);
+        assertEquals(5000L * 5000, LogoImageProcessor.webpPixels(large));
+        assertThrows(IllegalArgumentException.class, () -> processor.validatePixels(large));
+    }
+
+    private static byte[] webp(String chunk) {
+        byte[] b = new byte[64];
+        System.arraycopy("RIFF".getBytes(StandardCharsets.US_ASCII), 0, b, 0, 4);
+        System.arraycopy("WEBP".getBytes(StandardCharsets.US_ASCII), 0, b, 8, 4);
+        System.arraycopy(chunk.getBytes(StandardCharsets.US_ASCII), 0, b, 12, 4);
+        return b;
+    }
+
+    private static Path write(byte[] bytes) throws IOException {
+        Path file = Files.createTempFile("logo-", ".webp");
+        Files.write(file, bytes);
+        return file;
+    }
+}
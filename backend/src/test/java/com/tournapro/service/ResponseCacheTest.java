@@ -0,0 +1,91 @@
+package com.tournapro.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseCacheTest {
+
+    @Test
+    void servesStoredBytesUntilTheScopeChanges() {
+        ResponseCache cache = new ResponseCache(new ObjectMapper(), 1024);
+        AtomicInteger loads = new AtomicInteger();
+        String scope = ResponseCache.tournament(1L);
+
+        byte[] first = cache.get(scope, "teams", () -> List.of("A", "B", loads.incrementAndGet()));
+        byte[] second = cache.get(scope, "teams", () -> List.of("A", "B", loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertEquals("[\"A\",\"B\",1]", new String(first));
+
+        cache.changed(scope);
+        cache.get(scope, "teams", () -> List.of(loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+
+        // other scopes are untouched
+        cache.get(ResponseCache.tournament(2L), "teams", () -> List.of(loads.incrementAndGet()));
+        cache.changed(scope);
+        cache.get(ResponseCache.tournament(2L), "teams", () -> List.of(loads.incrementAndGet()));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedPastTheByteBudget() {
+        ResponseCache cache = new ResponseCache(new ObjectMapper(), 25);
+        AtomicInteger loads = new AtomicInteger();
+        String scope = ResponseCache.tournament(1L);
+        String tenBytes = "12345678";   // 10 bytes once quoted
+
+        cache.get(scope, "a", () -> tenBytes);
+        cache.get(scope, "b", () -> tenBytes);
+        cache.get(scope, "a", () -> { loads.incrementAndGet(); return tenBytes; });
+        // 30 bytes: "b" is the least recently used and goes
+        cache.get(scope, "c", () -> tenBytes);
+        cache.get(scope, "a", () -> { loads.incrementAndGet(); return tenBytes; });
+        cache.get(scope, "b", () -> { loads.incrementAndGet(); return tenBytes; });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void keysOnTheDataVersionTheCallerRead() {
+        ResponseCache cache = new ResponseCache(new ObjectMapper(), 1024);
+        AtomicInteger loads = new AtomicInteger();
+        String scope = ResponseCache.tournament(1L);
+
+        cache.get(scope, "teams", 7L, () -> List.of(loads.incrementAndGet()));
+        // the in-memory scope version does not matter, only the one passed in
+        cache.changed(scope);
+        byte[] same = cache.get(scope, "teams", 7L, () -> List.of(loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertEquals("[1]", new String(same));
+
+        byte[] newer = cache.get(scope, "teams", 8L, () -> List.of(loads.incrementAndGet()));
+        assertEquals("[2]", new String(newer));
+
+        // no version: loaded every time
+        cache.get(scope, "teams", null, () -> List.of(loads.incrementAndGet()));
+        cache.get(scope, "teams", null, () -> List.of(loads.incrementAndGet()));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void expiresEntriesKeptOnlyInThisInstance() {
+        // a change on another instance never bumps this one's scope version
+        ResponseCache cache = new ResponseCache(new ObjectMapper(), 1024, 0);
+        AtomicInteger loads = new AtomicInteger();
+        String scope = ResponseCache.owner(1L);
+
+        cache.get(scope, "tournaments", () -> List.of(loads.incrementAndGet()));
+        byte[] reloaded = cache.get(scope, "tournaments", () -> List.of(loads.incrementAndGet()));
+        assertEquals("[2]", new String(reloaded));
+
+        // data-version entries are as fresh as the version itself
+        cache.get(scope, "teams", 3L, () -> List.of(loads.incrementAndGet()));
+        cache.get(scope, "teams", 3L, () -> List.of(loads.incrementAndGet()));
+        assertEquals(3, loads.get());
+    }
+}
@@ -0,0 +1,69 @@
+package com.tournapro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoundRobinSchedulerTest {
+
+    @Test
+    void everyPairMeetsOnceAndHomeAwayIsBalanced() {
+        for (int n = 2; n <= 41; n++) {
+            RoundRobinScheduler.Fixtures f = RoundRobinScheduler.generate(n, false);
+            assertEquals(n * (n - 1) / 2, f.size());
+            assertEquals(n % 2 == 0 ? n - 1 : n, f.rounds());
+            assertFixtures(n, f, 1);
+        }
+    }
+
+    @Test
+    void doubleRoundRobinMirrorsTheFirstLeg() {
+        for (int n = 2; n <= 21; n++) {
+            RoundRobinScheduler.Fixtures f = RoundRobinScheduler.generate(n, true);
+            assertEquals(n * (n - 1), f.size());
+            assertFixtures(n, f, 0);
+        }
+    }
+
+    @Test
+    void snakeGroupsSpreadSeeds() {
+        int[][] groups = RoundRobinScheduler.snakeGroups(10, 3);
+        assertArrayEquals(new int[]{0, 5, 6}, groups[0]);
+        assertArrayEquals(new int[]{1, 4, 7}, groups[1]);
+        assertArrayEquals(new int[]{2, 3, 8, 9}, groups[2]);
+    }
+
+    @Test
+    void groupLabelsRollOver() {
+        assertEquals("A", ScheduleService.groupLabel(0));
+        assertEquals("Z", ScheduleService.groupLabel(25));
+        assertEquals("AA", ScheduleService.groupLabel(26));
+    }
+
+    // each team plays at most once per round, no fixture repeats, home/away differ by <= maxImbalance
+    private static void assertFixtures(int n, RoundRobinScheduler.Fixtures f, int maxImbalance) {
+        int[] home = new int[n];
+        int[] away = new int[n];
+        Set<Long> seenFixtures = new HashSet<>();
+        Set<Long> seenInRound = new HashSet<>();
+        for (int i = 0; i < f.size(); i++) {
+            int h = f.home(i);
+            int a = f.away(i);
+            assertTrue(h != a);
+            assertTrue(seenFixtures.add((long) h * n + a), "repeated fixture " + h + "-" + a);
+            assertTrue(seenInRound.add((long) f.round(i) * n + h), "team " + h + " twice in round " + f.round(i));
+            assertTrue(seenInRound.add((long) f.round(i) * n + a), "team " + a + " twice in round " + f.round(i));
+            home[h]++;
+            away[a]++;
+        }
+        for (int t = 0; t < n; t++) {
+            assertTrue(Math.abs(home[t] - away[t]) <= maxImbalance,
+                    "team " + t + " has " + home[t] + " home / " + away[t] + " away");
+        }
+    }
+}
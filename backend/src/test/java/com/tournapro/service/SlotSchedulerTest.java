@@ -0,0 +1,113 @@
+package com.tournapro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlotSchedulerTest {
+
+    private static final int SLOT = 40;
+
+    @Test
+    void weekendOfFourHundredMatchesRespectsHardConstraints() {
+        // 10 groups of 10 teams, single round-robin: 450 matches
+        List<int[]> fixtures = new ArrayList<>();
+        for (int g = 0; g < 10; g++) {
+            RoundRobinScheduler.Fixtures f = RoundRobinScheduler.generate(10, false);
+            for (int i = 0; i < f.size(); i++) {
+                fixtures.add(new int[]{g * 10 + f.home(i), g * 10 + f.away(i), f.round(i)});
+            }
+        }
+        int n = fixtures.size();
+        int[] home = new int[n];
+        int[] away = new int[n];
+        int[] round = new int[n];
+        for (int i = 0; i < n; i++) {
+            home[i] = fixtures.get(i)[0];
+            away[i] = fixtures.get(i)[1];
+            round[i] = fixtures.get(i)[2];
+        }
+
+        // Saturday and Sunday 09:00-19:00
+        List<Long> starts = new ArrayList<>();
+        for (int day = 0; day < 2; day++) {
+            for (long t = day * 1440L + 540; t + SLOT <= day * 1440L + 1140; t += SLOT) {
+                starts.add(t);
+            }
+        }
+        long[] slotStart = starts.stream().mapToLong(Long::longValue).toArray();
+
+        // 20 referees; the first one only works Sunday
+        boolean[][] available = new boolean[20][slotStart.length];
+        for (boolean[] row : available) {
+            Arrays.fill(row, true);
+        }
+        for (int s = 0; s < slotStart.length / 2; s++) {
+            available[0][s] = false;
+        }
+
+        SlotScheduler.Problem problem = new SlotScheduler.Problem(100, home, away, round,
+                slotStart, 16, SLOT, SLOT, available);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        long started = System.nanoTime();
+        SlotScheduler.Solution solution;
+        try {
+            solution = SlotScheduler.solve(problem, 4, 2000, 42L, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000L;
+
+        assertEquals(0, solution.unplaced());
+        assertTrue(elapsedMs < 5000, "took " + elapsedMs + " ms");
+        assertTrue(solution.cost() <= SlotScheduler.solve(problem, 0, 0, 42L).cost());
+
+        Set<Long> cells = new HashSet<>();
+        Set<Long> refereeSlots = new HashSet<>();
+        Map<Integer, List<Long>> teamStarts = new HashMap<>();
+        for (int m = 0; m < n; m++) {
+            int s = solution.slot(m);
+            assertTrue(cells.add(s * 100L + solution.pitch(m)), "pitch double-booked");
+            assertTrue(refereeSlots.add(s * 100L + solution.referee(m)), "referee double-booked");
+            assertTrue(available[solution.referee(m)][s], "referee outside availability");
+            teamStarts.computeIfAbsent(home[m], t -> new ArrayList<>()).add(slotStart[s]);
+            teamStarts.computeIfAbsent(away[m], t -> new ArrayList<>()).add(slotStart[s]);
+        }
+        for (List<Long> times : teamStarts.values()) {
+            times.sort(null);
+            for (int i = 1; i < times.size(); i++) {
+                assertTrue(times.get(i) - times.get(i - 1) >= 2 * SLOT, "team without rest between matches");
+            }
+        }
+    }
+
+    @Test
+    void matchesThatDoNotFitAreLeftUnplaced() {
+        // three matches for the same team but only two slots
+        SlotScheduler.Problem problem = new SlotScheduler.Problem(4,
+                new int[]{0, 0, 0}, new int[]{1, 2, 3}, new int[]{1, 2, 3},
+                new long[]{0, 100}, 2, SLOT, 0, new boolean[0][]);
+        SlotScheduler.Solution solution = SlotScheduler.solve(problem, 2, 100, 1L);
+
+        assertEquals(1, solution.unplaced());
+        assertEquals(SlotScheduler.NONE, solution.referee(0));
+
+        // a saturated search pool still yields the greedy schedule
+        SlotScheduler.Solution greedy = SlotScheduler.solve(problem, 2, 100, 1L, r -> {
+            throw new RejectedExecutionException();
+        });
+        assertEquals(1, greedy.unplaced());
+    }
+}
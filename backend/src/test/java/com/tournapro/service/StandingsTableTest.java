@@ -0,0 +1,95 @@
+package com.tournapro.service;
+
+import com.tournapro.dto.StandingRowResponse;
+import com.tournapro.dto.StandingsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StandingsTableTest {
+
+    private static StandingsTable table(String... names) {
+        StandingsTable t = new StandingsTable(1L);
+        for (int i = 0; i < names.length; i++) {
+            t.addTeam(i + 1, names[i], null);
+        }
+        t.publish();
+        return t;
+    }
+
+    private static List<StandingRowResponse> rows(StandingsTable t) {
+        return t.snapshot().getGroups().get(0).getRows();
+    }
+
+    @Test
+    void correctedResultReplacesTheOldOne() {
+        StandingsTable t = table("Ajax", "Benfica");
+        t.applyResult(100, 1, 2, 2, 0);
+        t.applyResult(100, 1, 2, 1, 3);
+
+        List<StandingRowResponse> rows = rows(t);
+        assertEquals(2L, (long) rows.get(0).getTeamId());
+        assertEquals(3, rows.get(0).getPoints());
+        assertEquals(1, rows.get(0).getPlayed());
+        assertEquals(0, rows.get(1).getPoints());
+        assertEquals(-2, rows.get(1).getGoalDifference());
+    }
+
+    @Test
+    void reapplyingTheSameResultKeepsTheSnapshot() {
+        StandingsTable t = table("Ajax", "Benfica");
+        t.applyResult(100, 1, 2, 1, 1);
+        StandingsResponse before = t.snapshot();
+        t.applyResult(100, 1, 2, 1, 1);
+
+        assertTrue(before == t.snapshot());
+        assertEquals(1, rows(t).get(0).getPoints());
+    }
+
+    @Test
+    void headToHeadBreaksTiesBeforeGoalDifference() {
+        StandingsTable t = table("Ajax", "Benfica", "Celtic");
+        // Ajax and Benfica both on 3 points; Benfica has the better goal difference,
+        // but Ajax won the direct meeting
+        t.applyResult(1, 1, 2, 1, 0);
+        t.applyResult(2, 2, 3, 5, 0);
+
+        List<StandingRowResponse> rows = rows(t);
+        assertEquals(1L, (long) rows.get(0).getTeamId());
+        assertEquals(2L, (long) rows.get(1).getTeamId());
+        assertEquals(4, rows.get(1).getGoalDifference());
+    }
+
+    @Test
+    void circularHeadToHeadFallsBackToGoalDifference() {
+        StandingsTable t = table("Ajax", "Benfica", "Celtic");
+        t.applyResult(1, 1, 2, 1, 0);
+        t.applyResult(2, 2, 3, 5, 0);
+        t.applyResult(3, 3, 1, 1, 0);
+
+        // everyone beat one other team: Benfica's +4 decides
+        List<StandingRowResponse> rows = rows(t);
+        assertEquals(2L, (long) rows.get(0).getTeamId());
+        assertEquals(3, rows.get(2).getPoints());
+    }
+
+    @Test
+    void groupsAreRankedSeparately() {
+        StandingsTable t = new StandingsTable(1L);
+        t.addTeam(1, "Ajax", "A");
+        t.addTeam(2, "Benfica", "A");
+        t.addTeam(3, "Celtic", "B");
+        t.addTeam(4, "Dynamo", "B");
+        t.publish();
+        t.applyResult(1, 1, 2, 0, 2);
+
+        StandingsResponse s = t.snapshot();
+        assertEquals(2, s.getGroups().size());
+        assertEquals("A", s.getGroups().get(0).getLabel());
+        assertEquals(2L, (long) s.getGroups().get(0).getRows().get(0).getTeamId());
+        assertEquals(0, s.getGroups().get(1).getRows().get(0).getPlayed());
+    }
+}
@@ -0,0 +1,135 @@
+package com.tournapro.service;
+
+import com.tournapro.entity.Tournament;
+import com.tournapro.entity.User;
+import com.tournapro.repository.TournamentRepository;
+import com.tournapro.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:accesstest",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false"
+})
+class TournamentAccessServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private RefereeService refereeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void entityPrincipalSkipsUserLookupAndMemoizesOwnership() {
+        User owner = saveUser();
+        Tournament tournament = saveTournament(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner, null, owner.getAuthorities()));
+
+        // first call: tournament lookup + teams query, no users query
+        startCountingCold();
+        teamService.getTeams(tournament.getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        // later calls in the same request only run their own list query
+        statistics.clear();
+        teamService.getTeams(tournament.getId());
+        refereeService.listReferees(tournament.getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void namePrincipalFallsBackToSingleUserLookupPerRequest() {
+        User owner = saveUser();
+        Tournament tournament = saveTournament(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner.getEmail(), null, owner.getAuthorities()));
+
+        // first call: users + tournament + teams, which is what every call used to cost
+        startCountingCold();
+        teamService.getTeams(tournament.getId());
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        refereeService.listReferees(tournament.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void rejectsTournamentOwnedBySomeoneElse() {
+        Tournament tournament = saveTournament(saveUser());
+        User intruder = saveUser();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(intruder, null, intruder.getAuthorities()));
+
+        assertThrows(IllegalStateException.class, () -> teamService.getTeams(tournament.getId()));
+    }
+
+    // the fixtures went into the second-level cache when they were saved; counting from a cold
+    // cache keeps the expected statement counts independent of what earlier tests left there
+    private void startCountingCold() {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    private User saveUser() {
+        User user = new User();
+        user.setEmail("owner-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("secret");
+        user.setRole(User.Role.ORGANIZER);
+        user.setEnabled(true);
+        return userRepository.save(user);
+    }
+
+    private Tournament saveTournament(User owner) {
+        Tournament tournament = new Tournament();
+        tournament.setOwner(owner);
+        tournament.setTitle("Spring Cup");
+        return tournamentRepository.save(tournament);
+    }
+}
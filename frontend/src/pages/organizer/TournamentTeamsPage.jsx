@@ -138,12 +138,12 @@ export default function TournamentTeamsPage() {
   }, [tournamentId, setCurrentTitle, navigate]);
 
   useEffect(() => {
-    // Fetch teams for this tournament
+    // Fetch teams (with their players) for this tournament
     const loadTeams = async () => {
       try {
         setLoading(true);
         setError(null);
-        const response = await teamAPI.getByTournament(tournamentId);
+        const response = await teamAPI.getRoster(tournamentId);
         setTeams(response.data || []);
       } catch (err) {
         console.error("Failed to load teams:", err);
@@ -419,7 +419,11 @@ export default function TournamentTeamsPage() {
     setAddingPlayer(false);
     setEditingPlayer(null);
     
-    // Load players for this team
+    // Players come with the roster; only fetch when this team was loaded without them
+    if (Array.isArray(team.players)) {
+      setPlayers(team.players);
+      return;
+    }
     try {
       setLoadingPlayers(true);
       const response = await playerAPI.getByTeam(tournamentId, team.id);
@@ -432,6 +436,17 @@ export default function TournamentTeamsPage() {
     }
   };
 
+  // Apply a player edit to the modal list and to the roster copy of the open team
+  const updatePlayers = (updater) => {
+    setPlayers(updater);
+    const teamId = selectedTeamForPlayer?.id;
+    setTeams((prev) =>
+      prev.map((t) =>
+        t.id === teamId && Array.isArray(t.players) ? { ...t, players: updater(t.players) } : t
+      )
+    );
+  };
+
   const handleAddPlayer = async (e) => {
     e.preventDefault();
     
@@ -444,7 +459,7 @@ export default function TournamentTeamsPage() {
           dateOfBirth: playerForm.dateOfBirth || null,
           number: playerForm.number || null,
         });
-        setPlayers((prev) => [...prev, response.data]);
+        updatePlayers((prev) => [...prev, response.data]);
         toast.success(`Player "${playerForm.name}" added to ${selectedTeamForPlayer.name}`);
         setAddingPlayer(false);
         setPlayerForm({ name: "", dateOfBirth: "", number: "" });
@@ -470,7 +485,7 @@ export default function TournamentTeamsPage() {
         }));
         
         const response = await playerAPI.bulkCreate(tournamentId, selectedTeamForPlayer.id, playerRequests);
-        setPlayers((prev) => [...prev, ...(response.data || [])]);
+        updatePlayers((prev) => [...prev, ...(response.data || [])]);
         toast.success(`${playerNames.length} players added to ${selectedTeamForPlayer.name}`);
         setAddingPlayer(false);
         setMultiplePlayers("");
@@ -503,7 +518,7 @@ export default function TournamentTeamsPage() {
         number: editPlayerForm.number || null,
       });
       
-      setPlayers((prev) =>
+      updatePlayers((prev) =>
         prev.map((p) => (p.id === editingPlayer.id ? response.data : p))
       );
       setEditingPlayer(null);
@@ -519,7 +534,7 @@ export default function TournamentTeamsPage() {
     
     try {
       await playerAPI.delete(playerId);
-      setPlayers((prev) => prev.filter((p) => p.id !== playerId));
+      updatePlayers((prev) => prev.filter((p) => p.id !== playerId));
       toast.success("Player deleted");
     } catch (err) {
       console.error("Failed to delete player:", err);
@@ -67,6 +67,8 @@ export const tournamentAPI = {
 // Team API
 export const teamAPI = {
   getByTournament: (tournamentId) => api.get(`/tournaments/${tournamentId}/teams`),
+  // Every team with its players in one request
+  getRoster: (tournamentId) => api.get(`/tournaments/${tournamentId}/roster`),
   getById: (tournamentId, id) => api.get(`/tournaments/${tournamentId}/teams/${id}`),
   create: (tournamentId, data) => api.post(`/tournaments/${tournamentId}/teams`, data),
   update: (tournamentId, id, data) => api.patch(`/tournaments/${tournamentId}/teams/${id}`, data),
@@ -80,6 +82,9 @@ export const divisionAPI = {
   create: (tournamentId, data) => api.post(`/tournaments/${tournamentId}/divisions`, data),
   update: (tournamentId, id, data) => api.put(`/tournaments/${tournamentId}/divisions/${id}`, data),
   delete: (tournamentId, id) => api.delete(`/tournaments/${tournamentId}/divisions/${id}`),
+  getStandings: (tournamentId, id) => api.get(`/tournaments/${tournamentId}/divisions/${id}/standings`),
+  generateBracket: (tournamentId, id, data) => api.post(`/tournaments/${tournamentId}/divisions/${id}/bracket`, data),
+  getBracket: (tournamentId, id) => api.get(`/tournaments/${tournamentId}/divisions/${id}/bracket`),
 };
 
 // Match API
@@ -134,6 +139,9 @@ export const publicAPI = {
   getTeams: (tournamentId) => api.get(`/public/tournaments/${tournamentId}/teams`),
   getDivisions: (tournamentId) => api.get(`/public/tournaments/${tournamentId}/divisions`),
   getMatches: (divisionId) => api.get(`/public/divisions/${divisionId}/matches`),
+  getStandings: (divisionId) => api.get(`/public/divisions/${divisionId}/standings`),
+  // SSE change feed for EventSource (resumes with Last-Event-ID on reconnect; a 'reset' event means reload)
+  eventsUrl: (tournamentId) => `${API_BASE_URL}/public/tournaments/${tournamentId}/events`,
 };
 
 export default api;
@@ -6,6 +6,7 @@ class WebSocketService {
     this.reconnectDelay = 3000;
     this.listeners = new Map();
     this.isConnecting = false;
+    this.tournaments = new Set();
   }
 
   connect(token) {
@@ -14,7 +15,7 @@ class WebSocketService {
     }
 
     this.isConnecting = true;
-    const wsUrl = `ws://localhost:8080/ws?token=${token}`;
+    const wsUrl = `ws://localhost:8080/ws?token=${encodeURIComponent(token)}`;
     
     try {
       this.socket = new WebSocket(wsUrl);
@@ -23,6 +24,8 @@ class WebSocketService {
         console.log('WebSocket connected');
         this.isConnecting = false;
         this.reconnectAttempts = 0;
+        // topics are per connection; pick them up again after a reconnect
+        this.tournaments.forEach((id) => this.send({ type: 'SUBSCRIBE', tournamentId: id }));
         this.notifyListeners('connection', { status: 'connected' });
       };
 
@@ -63,18 +66,32 @@ class WebSocketService {
     const { type, payload } = message;
     
     switch (type) {
+      case 'BATCH':
+        // the server coalesces changes into one frame per tournament
+        (message.events || []).forEach((event) => this.handleMessage(event));
+        break;
       case 'MATCH_UPDATE':
         this.notifyListeners('matchUpdate', payload);
         break;
+      case 'STANDINGS_UPDATE':
+        this.notifyListeners('standingsUpdate', payload);
+        break;
       case 'TOURNAMENT_UPDATE':
         this.notifyListeners('tournamentUpdate', payload);
         break;
+      case 'DIVISION_UPDATE':
+        this.notifyListeners('divisionUpdate', payload);
+        break;
       case 'TEAM_UPDATE':
         this.notifyListeners('teamUpdate', payload);
         break;
       case 'PLAYER_UPDATE':
         this.notifyListeners('playerUpdate', payload);
         break;
+      case 'ROSTER_UPDATE':
+        // many teams or players changed at once; listeners reload the roster
+        this.notifyListeners('rosterUpdate', payload);
+        break;
       case 'REGISTRATION_UPDATE':
         this.notifyListeners('registrationUpdate', payload);
         break;
@@ -83,6 +100,17 @@ class WebSocketService {
     }
   }
 
+  // Receive updates for a tournament; remembered across reconnects
+  subscribeTournament(tournamentId) {
+    this.tournaments.add(tournamentId);
+    this.send({ type: 'SUBSCRIBE', tournamentId });
+  }
+
+  unsubscribeTournament(tournamentId) {
+    this.tournaments.delete(tournamentId);
+    this.send({ type: 'UNSUBSCRIBE', tournamentId });
+  }
+
   subscribe(eventType, callback) {
     if (!this.listeners.has(eventType)) {
       this.listeners.set(eventType, new Set());
@@ -125,6 +153,7 @@ class WebSocketService {
       this.socket = null;
     }
     this.listeners.clear();
+    this.tournaments.clear();
     this.reconnectAttempts = 0;
   }
 